@@ -289,6 +289,15 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         pausedForErrors = false;
     }
 
+    /**
+     * Checks if recipe processing is currently paused due to errors, in which case it will not do anything until {@link #unpauseErrors()} is called.
+     *
+     * @since 10.7.9
+     */
+    public boolean isPausedForErrors() {
+        return pausedForErrors;
+    }
+
     /**
      * Sets the number of operating ticks that have passed so far. This is used to allow {@link CachedRecipe} holders to persist and load recipe progress.
      *
@@ -304,12 +313,41 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      * Called by the holder of this {@link CachedRecipe} to attempt to process/handle the internal recipe.
      */
     public void process() {
+        processTick();
+    }
+
+    /**
+     * Called by the holder of this {@link CachedRecipe} to attempt to process/handle the internal recipe for multiple ticks at once. This is equivalent to calling
+     * {@link #process()} once per tick for the given number of ticks, assuming nothing else changes the holder's contents in between. Processing stops early on the
+     * first tick that is unable to perform any operations.
+     *
+     * @param ticks Number of ticks to process.
+     *
+     * @return the number of ticks that performed at least one operation.
+     *
+     * @apiNote Holders should only batch ticks that they expect to have been able to process every tick of, for example by going back to processing every tick after
+     * a batch stops early. Otherwise, progress may be made faster than it would have been had the recipe been processed every tick.
+     * @since 10.7.9
+     */
+    public int process(int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            if (processTick() <= 0) {
+                return tick;
+            }
+        }
+        return ticks;
+    }
+
+    /**
+     * @return the number of operations that were performed, or a negative number if the progress was reset.
+     */
+    private int processTick() {
         //TODO: Evaluate adding in some marker that gets set to true here that then denies the various callbacks/builders from being used
         // as once we start processing the cached recipe should basically be immutable
         if (pausedForErrors) {
             //Note: We just set active as false if we are paused for errors and then don't do any other processing
             setActive.accept(false);
-            return;
+            return 0;
         }
         int operations;
         if (canHolderFunction.getAsBoolean()) {
@@ -364,6 +402,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
                 resetCache();
             }
         }
+        return operations;
     }
 
     /**
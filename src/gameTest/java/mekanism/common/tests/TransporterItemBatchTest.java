@@ -0,0 +1,165 @@
+package mekanism.common.tests;
+
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.client.render.transmitter.TransporterItemBatch;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "render.transporter")
+public class TransporterItemBatchTest {
+
+    private static final int MAX_INSTANCES = 4;
+    private static final double LOD_DISTANCE = 16;
+    private static final int LOD_PER_SECTION = 2;
+    //Squared distances that are closer and further than the lod distance
+    private static final double NEAR = 4;
+    private static final double FAR = LOD_DISTANCE * LOD_DISTANCE + 1;
+
+    private static TransporterItemBatch createBatch(boolean limitInstances) {
+        return createBatch(limitInstances, MAX_INSTANCES);
+    }
+
+    private static TransporterItemBatch createBatch(boolean limitInstances, int maxInstances) {
+        return new TransporterItemBatch(() -> limitInstances, maxInstances, LOD_DISTANCE, LOD_PER_SECTION);
+    }
+
+    private static List<Group> getGroups(TransporterItemBatch batch) {
+        List<Group> groups = new ArrayList<>();
+        batch.forEach((stack, positions, lights, counts) -> groups.add(new Group(stack, positions, lights, counts)));
+        return groups;
+    }
+
+    private static Group getGroup(MekGameTestHelper helper, TransporterItemBatch batch, ItemStack type) {
+        for (Group group : getGroups(batch)) {
+            if (ItemStack.isSameItemSameComponents(group.stack(), type)) {
+                return group;
+            }
+        }
+        helper.fail("Expected a group for " + type);
+        return null;
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that stacks of the same type are grouped together, keeping the position, light, and count of each one.")
+    public static void groupsEqualStacks(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  TransporterItemBatch batch = createBatch(false);
+                  ItemStack namedStick = new ItemStack(Holder.direct(Items.STICK), 1, DataComponentPatch.builder().set(DataComponents.MAX_STACK_SIZE, 16).build());
+                  helper.assertTrue(batch.add(new ItemStack(Items.STICK, 5), 1, 2, 3, 10, NEAR), "Expected the first stick to be added");
+                  helper.assertTrue(batch.add(new ItemStack(Items.DIRT, 64), 4, 5, 6, 20, NEAR), "Expected the dirt to be added");
+                  helper.assertTrue(batch.add(new ItemStack(Items.STICK, 7), 7, 8, 9, 30, NEAR), "Expected the second stick to be added");
+                  helper.assertTrue(batch.add(namedStick, 0, 0, 0, 40, NEAR), "Expected the stick with components to be added");
+                  helper.assertFalse(batch.add(ItemStack.EMPTY, 0, 0, 0, 0, NEAR), "Expected empty stacks to be skipped");
+
+                  helper.assertValueEqual(batch.getInstances(), 4, "instances");
+                  helper.assertValueEqual(getGroups(batch).size(), 3, "groups");
+                  Group sticks = getGroup(helper, batch, new ItemStack(Items.STICK));
+                  helper.assertValueEqual(sticks.counts(), IntList.of(5, 7), "stick counts");
+                  helper.assertValueEqual(sticks.lights(), IntList.of(10, 30), "stick lights");
+                  helper.assertValueEqual(sticks.positions(), DoubleList.of(1, 2, 3, 7, 8, 9), "stick positions");
+                  helper.assertValueEqual(getGroup(helper, batch, namedStick).counts(), IntList.of(1), "stick with components counts");
+                  helper.assertValueEqual(getGroup(helper, batch, new ItemStack(Items.DIRT)).counts(), IntList.of(64), "dirt counts");
+              })
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that no more than the maximum number of stacks are added per frame, unless limiting is disabled.")
+    public static void capsInstancesPerFrame(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  TransporterItemBatch batch = createBatch(true);
+                  for (int i = 0; i < MAX_INSTANCES; i++) {
+                      helper.assertTrue(batch.add(new ItemStack(i % 2 == 0 ? Items.STICK : Items.DIRT), i, 0, 0, 0, NEAR), "Expected stack " + i + " to be added");
+                  }
+                  helper.assertFalse(batch.add(new ItemStack(Items.COBBLESTONE), 0, 0, 0, 0, NEAR), "Expected stacks past the cap to be skipped");
+                  helper.assertValueEqual(batch.getInstances(), MAX_INSTANCES, "instances");
+                  //Clearing the batch starts a new frame, which should reset the cap
+                  batch.clear();
+                  helper.assertTrue(batch.isEmpty(), "Expected the batch to be empty after clearing it");
+                  helper.assertTrue(batch.add(new ItemStack(Items.COBBLESTONE), 0, 0, 0, 0, NEAR), "Expected stacks to be added after clearing the batch");
+
+                  TransporterItemBatch unlimited = createBatch(false);
+                  for (int i = 0; i < 2 * MAX_INSTANCES; i++) {
+                      helper.assertTrue(unlimited.add(new ItemStack(Items.STICK), i, 0, 0, 0, FAR), "Expected every stack to be added when not limiting");
+                  }
+                  helper.assertValueEqual(unlimited.getInstances(), 2 * MAX_INSTANCES, "unlimited instances");
+              })
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that past the lod distance only a limited number of stacks of each type are added per chunk section.")
+    public static void limitsDistantStacksPerSection(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  //Note: We use a higher cap so that it doesn't get hit before the section limits
+                  TransporterItemBatch batch = createBatch(true, 64);
+                  //Note: These positions are all in the same chunk section
+                  for (int i = 0; i < LOD_PER_SECTION; i++) {
+                      helper.assertTrue(batch.add(new ItemStack(Items.STICK), i + 0.5, 0.5, 0.5, 0, FAR), "Expected distant stick " + i + " to be added");
+                  }
+                  helper.assertFalse(batch.add(new ItemStack(Items.STICK), 15.5, 15.5, 15.5, 0, FAR), "Expected distant sticks past the section limit to be skipped");
+                  helper.assertTrue(batch.add(new ItemStack(Items.STICK), 3.5, 0.5, 0.5, 0, NEAR), "Expected sticks within the lod distance to be added");
+                  helper.assertTrue(batch.add(new ItemStack(Items.DIRT), 4.5, 0.5, 0.5, 0, FAR), "Expected the section limit to be per type");
+                  helper.assertTrue(batch.add(new ItemStack(Items.STICK), 16.5, 0.5, 0.5, 0, FAR), "Expected the section limit to be per section");
+                  helper.assertTrue(batch.add(new ItemStack(Items.STICK), -0.5, 0.5, 0.5, 0, FAR), "Expected negative coordinates to be in a different section");
+                  helper.assertValueEqual(getGroup(helper, batch, new ItemStack(Items.STICK)).counts().size(), LOD_PER_SECTION + 3, "sticks added");
+                  //The section counts should reset between frames
+                  batch.clear();
+                  helper.assertTrue(batch.add(new ItemStack(Items.STICK), 0.5, 0.5, 0.5, 0, FAR), "Expected distant sticks to be added again the next frame");
+              })
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that groups are reused by the next frame, and dropped once a frame passes without stacks of their type.")
+    public static void reusesGroupsAcrossFrames(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  TransporterItemBatch batch = createBatch(true);
+                  batch.add(new ItemStack(Items.STICK, 3), 0, 0, 0, 0, NEAR);
+                  ItemStack firstFrame = getGroup(helper, batch, new ItemStack(Items.STICK)).stack();
+                  batch.clear();
+                  helper.assertTrue(getGroups(batch).isEmpty(), "Expected no groups to be visited after clearing the batch");
+                  batch.add(new ItemStack(Items.STICK, 4), 1, 1, 1, 0, NEAR);
+                  Group secondFrame = getGroup(helper, batch, new ItemStack(Items.STICK));
+                  helper.assertTrue(secondFrame.stack() == firstFrame, "Expected the group to be reused by the next frame");
+                  helper.assertValueEqual(secondFrame.counts(), IntList.of(4), "counts of the next frame");
+                  //A frame without any sticks drops the group
+                  batch.clear();
+                  batch.clear();
+                  batch.add(new ItemStack(Items.STICK, 5), 2, 2, 2, 0, NEAR);
+                  helper.assertFalse(getGroup(helper, batch, new ItemStack(Items.STICK)).stack() == firstFrame, "Expected the unused group to have been dropped");
+                  batch.reset();
+                  helper.assertTrue(batch.isEmpty() && getGroups(batch).isEmpty(), "Expected resetting the batch to drop everything");
+              })
+              .thenSucceed();
+    }
+
+    //Note: We copy the lists as the batch reuses them between frames
+    private record Group(ItemStack stack, DoubleList positions, IntList lights, IntList counts) {
+
+        private Group {
+            positions = DoubleList.of(positions.toDoubleArray());
+            lights = IntList.of(lights.toIntArray());
+            counts = IntList.of(counts.toIntArray());
+        }
+    }
+}
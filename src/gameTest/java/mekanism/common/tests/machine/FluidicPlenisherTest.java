@@ -0,0 +1,63 @@
+package mekanism.common.tests.machine;
+
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.api.fluid.IExtendedFluidTank;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.machine.TileEntityFluidicPlenisher;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.FluidType;
+import net.neoforged.testframework.DynamicTest;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "machine.plenisher")
+public class FluidicPlenisherTest {
+
+    private static final BlockPos PLENISHER = new BlockPos(2, 3, 2);
+
+    @GameTest(timeoutTicks = 30 * SharedConstants.TICKS_PER_SECOND)
+    @TestHolder(description = "Tests that a fluidic plenisher fills every block of a pit below it with source blocks.")
+    public static void fillsPit(final DynamicTest test) {
+        test.registerGameTestTemplate(() -> StructureTemplateBuilder.withSize(5, 3, 5)
+              //A 3x3 pit that is one block deep
+              .fill(0, 0, 0, 4, 0, 4, Blocks.STONE.defaultBlockState())
+              .fill(0, 1, 0, 4, 1, 0, Blocks.STONE.defaultBlockState())
+              .fill(0, 1, 4, 4, 1, 4, Blocks.STONE.defaultBlockState())
+              .fill(0, 1, 1, 0, 1, 3, Blocks.STONE.defaultBlockState())
+              .fill(4, 1, 1, 4, 1, 3, Blocks.STONE.defaultBlockState())
+              .set(2, 2, 2, MekanismBlocks.FLUIDIC_PLENISHER.defaultState())
+        );
+
+        test.onGameTest(MekGameTestHelper.class, helper -> helper.startSequence()
+              .thenExecute(() -> getFluidTank(helper).setStack(new FluidStack(Fluids.WATER, TileEntityFluidicPlenisher.MAX_FLUID)))
+              .thenWaitUntil(() -> {
+                  //Keep the plenisher powered, we only care about what it fills
+                  TileEntityFluidicPlenisher tile = helper.getBlockEntity(PLENISHER);
+                  IEnergyContainer energyContainer = tile.getEnergyContainers(null).getFirst();
+                  energyContainer.setEnergy(energyContainer.getMaxEnergy());
+                  for (int x = 1; x <= 3; x++) {
+                      for (int z = 1; z <= 3; z++) {
+                          helper.assertBlockState(new BlockPos(x, 2, z), state -> state.getFluidState().isSourceOfType(Fluids.WATER),
+                                () -> "Expected the pit to be filled with water");
+                      }
+                  }
+              })
+              //Nine buckets went into the pit, and nothing else should have been placed
+              .thenExecute(() -> helper.assertValueEqual(getFluidTank(helper).getFluidAmount(), TileEntityFluidicPlenisher.MAX_FLUID - 9 * FluidType.BUCKET_VOLUME,
+                    "Fluid remaining in the plenisher"))
+              .thenSucceed()
+        );
+    }
+
+    private static IExtendedFluidTank getFluidTank(MekGameTestHelper helper) {
+        TileEntityFluidicPlenisher tile = helper.getBlockEntity(PLENISHER);
+        return tile.getFluidTanks(null).getFirst();
+    }
+}
@@ -0,0 +1,96 @@
+package mekanism.common.tests.machine;
+
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.Upgrade;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.prefab.TileEntityProgressMachine;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.GameType;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "machine.processing")
+public class MachineProcessingTest {
+
+    private static final int INTERVAL = 10;
+    private static final int OPERATIONS = 16;
+    private static final int TICKS_TO_RUN = 20 * SharedConstants.TICKS_PER_SECOND;
+
+    //Note: The processing interval is a global config value, so we run in our own batch to ensure no other machine tests run while we have it changed
+    @GameTest(batch = "machine_processing_interval", timeoutTicks = TICKS_TO_RUN + 5 * SharedConstants.TICKS_PER_SECOND)
+    @EmptyTemplate
+    @TestHolder(description = "Tests that a machine that defers processing ticks progresses and uses energy the same as one that processes every tick.")
+    public static void deferredProcessingMatchesEveryTick(final MekGameTestHelper helper) {
+        int previousInterval = MekanismConfig.general.machineProcessingInterval.get();
+        //Make sure we restore the interval even if the test fails or times out
+        helper.addEndListener(passed -> MekanismConfig.general.machineProcessingInterval.set(previousInterval));
+        BlockPos deferring = new BlockPos(0, 1, 0);
+        BlockPos everyTick = new BlockPos(2, 1, 0);
+        boolean[] deferred = new boolean[1];
+        helper.startSequence()
+              .thenExecute(() -> {
+                  MekanismConfig.general.machineProcessingInterval.set(INTERVAL);
+                  setupChamber(helper, deferring);
+                  TileEntityProgressMachine<?> tile = setupChamber(helper, everyTick);
+                  //Machines always process every tick while a player is viewing them
+                  tile.playersUsing.add(helper.makeMockPlayer(GameType.SURVIVAL));
+              })
+              .thenExecuteFor(TICKS_TO_RUN, () -> {
+                  TileEntityProgressMachine<?> deferringTile = helper.getBlockEntity(deferring);
+                  TileEntityProgressMachine<?> everyTickTile = helper.getBlockEntity(everyTick);
+                  //Supply both machines with exactly the energy they use per tick, the same way a cable that is limited to that rate would
+                  supplyEnergy(deferringTile);
+                  supplyEnergy(everyTickTile);
+                  if (deferringTile.getOperatingTicks() < everyTickTile.getOperatingTicks()) {
+                      deferred[0] = true;
+                  } else {
+                      //If the deferring machine has caught up, it must have used exactly as much energy as the one that processes every tick
+                      helper.assertValueEqual(deferringTile.getOperatingTicks(), everyTickTile.getOperatingTicks(), "operating ticks");
+                      helper.assertValueEqual(getEnergyContainer(deferringTile).getEnergy(), getEnergyContainer(everyTickTile).getEnergy(), "stored energy");
+                  }
+                  //Operations are never finished in deferred ticks, so both machines should always have produced the same output
+                  helper.assertValueEqual(countOutput(deferringTile), countOutput(everyTickTile), "output");
+              })
+              .thenExecute(() -> {
+                  helper.assertTrue(deferred[0], "Expected the deferring machine to have deferred processing ticks");
+                  helper.assertTrue(countOutput(helper.getBlockEntity(everyTick)) >= 4 * 2, "Expected at least two operations to have finished");
+              })
+              .thenSucceed();
+    }
+
+    private static TileEntityProgressMachine<?> setupChamber(MekGameTestHelper helper, BlockPos pos) {
+        helper.setBlock(pos, MekanismBlocks.ENRICHMENT_CHAMBER.defaultState());
+        TileEntityProgressMachine<?> tile = helper.getBlockEntity(pos);
+        //Install some speed upgrades so that the test doesn't take forever, while still taking more ticks per operation than the interval
+        tile.getComponent().addUpgrades(Upgrade.SPEED, Upgrade.SPEED.getMax() / 2);
+        helper.assertTrue(tile.getTicksRequired() > 2 * INTERVAL, "Expected operations to take longer than the processing interval");
+        tile.getInventorySlots(null).getFirst().setStack(new ItemStack(Items.CLAY, OPERATIONS));
+        //Start with half the energy the machine can store, so that deferring ticks never causes it to have to reject the energy it is supplied with
+        IEnergyContainer energyContainer = getEnergyContainer(tile);
+        helper.assertTrue(INTERVAL * energyContainer.getEnergyPerTick() <= energyContainer.getMaxEnergy() / 2, "Expected to be able to store the energy for an interval");
+        energyContainer.setEnergy(energyContainer.getMaxEnergy() / 2);
+        return tile;
+    }
+
+    private static void supplyEnergy(TileEntityProgressMachine<?> tile) {
+        IEnergyContainer energyContainer = getEnergyContainer(tile);
+        energyContainer.insert(energyContainer.getEnergyPerTick(), Action.EXECUTE, AutomationType.EXTERNAL);
+    }
+
+    private static IEnergyContainer getEnergyContainer(TileEntityProgressMachine<?> tile) {
+        return tile.getEnergyContainers(null).getFirst();
+    }
+
+    private static int countOutput(TileEntityProgressMachine<?> tile) {
+        return tile.getInventorySlots(null).get(1).getCount();
+    }
+}
@@ -0,0 +1,89 @@
+package mekanism.common.tests.multiblock;
+
+import mekanism.common.command.builders.Builders.BoilerBuilder;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.boiler.BoilerMultiblockData;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.multiblock.TileEntityBoilerCasing;
+import mekanism.common.util.HeatUtils;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.testframework.DynamicTest;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "multiblock.steady_state")
+public class BoilerSteadyStateTest {
+
+    private static final BlockPos CASING = new BlockPos(0, 1, 0);
+    private static final double LOW_TEMPERATURE = HeatUtils.BASE_BOIL_TEMP + 10;
+    private static final double HIGH_TEMPERATURE = HeatUtils.BASE_BOIL_TEMP + 20;
+    private static final int WARMUP_TICKS = 5;
+    private static final int STEADY_TICKS = 5 * SharedConstants.TICKS_PER_SECOND;
+
+    @GameTest(timeoutTicks = 30 * SharedConstants.TICKS_PER_SECOND)
+    @TestHolder(description = "Tests that a boiler kept in the same state boils exactly the same amount every tick, and that it picks up changes to its state.")
+    public static void constantInputs(final DynamicTest test) {
+        test.registerGameTestTemplate(() -> StructureTemplateBuilder.withSize(18, 18, 18));
+
+        test.onGameTest(MekGameTestHelper.class, helper -> {
+            int[] boilRates = {-1, -1};
+            helper.startSequence()
+                  .thenExecute(() -> new BoilerBuilder().build(helper.getLevel(), helper.absolutePos(CASING), false))
+                  .thenWaitUntil(() -> helper.assertTrue(getBoiler(helper).isFormed(), "Expected the boiler to have formed"))
+                  .thenExecuteFor(WARMUP_TICKS, () -> supply(getBoiler(helper), LOW_TEMPERATURE))
+                  .thenExecuteFor(STEADY_TICKS, () -> checkBoiled(helper, boilRates, 0, LOW_TEMPERATURE))
+                  //Raise the temperature, which the boiler has to notice instead of replaying what it boiled at the lower temperature
+                  .thenExecuteFor(WARMUP_TICKS, () -> supply(getBoiler(helper), HIGH_TEMPERATURE))
+                  .thenExecuteFor(STEADY_TICKS, () -> checkBoiled(helper, boilRates, 1, HIGH_TEMPERATURE))
+                  .thenExecute(() -> helper.assertTrue(boilRates[1] > boilRates[0], "Expected the boiler to boil more water at a higher temperature, but it went from "
+                                                                                     + boilRates[0] + " to " + boilRates[1]))
+                  .thenSucceed();
+        });
+    }
+
+    private static void checkBoiled(MekGameTestHelper helper, int[] boilRates, int index, double temperature) {
+        BoilerMultiblockData boiler = getBoiler(helper);
+        //Note: Any heat handled during the tick isn't applied until the next one, so the stored heat is still what the boiler boiled the water with
+        helper.assertValueEqual(boiler.lastMaxBoil, getMaxBoil(boiler), "max boil rate");
+        helper.assertTrue(boiler.lastBoilRate > 0, "Expected the boiler to be boiling water");
+        //Everything that was boiled since we last topped off the boiler should match what it reports having boiled
+        helper.assertValueEqual(boiler.waterTank.getNeeded(), boiler.lastBoilRate, "water boiled");
+        helper.assertValueEqual(boiler.steamTank.getStored(), (long) boiler.lastBoilRate, "steam produced");
+        if (boilRates[index] == -1) {
+            boilRates[index] = boiler.lastBoilRate;
+        } else {
+            //As the boiler is in exactly the same state every tick, it should boil exactly the same amount every tick
+            helper.assertValueEqual(boiler.lastBoilRate, boilRates[index], "boil rate");
+        }
+        supply(boiler, temperature);
+    }
+
+    /**
+     * Tops off the water, removes any steam, and sets the heat of the boiler, so that the boiler is in the same state at the start of every tick.
+     *
+     * @implNote Setting the heat doesn't discard the heat the boiler handled during the tick, but once the boiler is steady it handles the same amount every tick.
+     */
+    private static void supply(BoilerMultiblockData boiler, double temperature) {
+        boiler.waterTank.setStack(new FluidStack(Fluids.WATER, boiler.waterTank.getCapacity()));
+        boiler.steamTank.setEmpty();
+        boiler.heatCapacitor.setHeat(boiler.heatCapacitor.getHeatCapacity() * temperature);
+    }
+
+    private static int getMaxBoil(BoilerMultiblockData boiler) {
+        double heatAvailable = (boiler.heatCapacitor.getTemperature() - HeatUtils.BASE_BOIL_TEMP)
+                               * (boiler.heatCapacitor.getHeatCapacity() * MekanismConfig.general.boilerWaterConductivity.get());
+        heatAvailable = Math.min(heatAvailable, MekanismConfig.general.superheatingHeatTransfer.get() * boiler.superheatingElements);
+        return Mth.floor(HeatUtils.getSteamEnergyEfficiency() * heatAvailable / HeatUtils.getWaterThermalEnthalpy());
+    }
+
+    private static BoilerMultiblockData getBoiler(MekGameTestHelper helper) {
+        TileEntityBoilerCasing tile = helper.getBlockEntity(CASING);
+        return tile.getMultiblock();
+    }
+}
@@ -0,0 +1,77 @@
+package mekanism.common.tests.multiblock;
+
+import mekanism.common.registries.MekanismChemicals;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.generators.common.config.MekanismGeneratorsConfig;
+import mekanism.generators.common.content.turbine.TurbineMultiblockData;
+import mekanism.generators.common.content.turbine.TurbineMultiblockData.FlowResult;
+import mekanism.generators.common.registries.GeneratorsBuilders.TurbineBuilder;
+import mekanism.generators.common.tile.turbine.TileEntityTurbineCasing;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.neoforged.testframework.DynamicTest;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "multiblock.steady_state")
+public class TurbineSteadyStateTest {
+
+    private static final BlockPos CASING = new BlockPos(0, 1, 0);
+    private static final int STEADY_TICKS = 5 * SharedConstants.TICKS_PER_SECOND;
+
+    @GameTest(timeoutTicks = 20 * SharedConstants.TICKS_PER_SECOND)
+    @TestHolder(description = "Tests that a turbine supplied with the same amount of steam every tick produces the same amount of energy and water every tick.")
+    public static void constantInputs(final DynamicTest test) {
+        test.registerGameTestTemplate(() -> StructureTemplateBuilder.withSize(17, 18, 17));
+
+        test.onGameTest(MekGameTestHelper.class, helper -> {
+            long[] firstProduction = {-1};
+            helper.startSequence()
+                  .thenExecute(() -> new TurbineBuilder().build(helper.getLevel(), helper.absolutePos(CASING), false))
+                  .thenWaitUntil(() -> helper.assertTrue(getTurbine(helper).isFormed(), "Expected the turbine to have formed"))
+                  .thenExecute(() -> supply(getTurbine(helper)))
+                  .thenExecuteFor(STEADY_TICKS, () -> {
+                      TurbineMultiblockData turbine = getTurbine(helper);
+                      long produced = turbine.energyContainer.getEnergy();
+                      //Whether the turbine simulated its flow this tick or replayed the last one, it should match what simulating it now gives
+                      FlowResult flow = turbine.simulateFlow(getSteamSupply(turbine), turbine.energyContainer.getMaxEnergy());
+                      helper.assertValueEqual(turbine.clientFlow, flow.flow(), "flow");
+                      helper.assertValueEqual(produced, flow.energyProduced(), "expected energy produced");
+                      helper.assertValueEqual(turbine.ventTank.getFluidAmount(), flow.waterProduced(), "expected water condensed");
+                      helper.assertTrue(produced > 0, "Expected the turbine to be producing energy");
+                      if (firstProduction[0] == -1) {
+                          firstProduction[0] = produced;
+                      } else {
+                          //As the turbine sees exactly the same state every tick, it should produce exactly the same amount of energy every tick
+                          helper.assertValueEqual(produced, firstProduction[0], "energy produced");
+                      }
+                      //The steam that was used since we last supplied the turbine should match the flow it reports
+                      helper.assertValueEqual(getSteamSupply(turbine) - turbine.chemicalTank.getStored(), turbine.clientFlow, "steam used");
+                      helper.assertValueEqual((long) turbine.ventTank.getFluidAmount(),
+                            Math.min(turbine.clientFlow, turbine.condensers * MekanismGeneratorsConfig.generators.condenserRate.get()), "water condensed");
+                      supply(turbine);
+                  })
+                  .thenSucceed();
+        });
+    }
+
+    /**
+     * Fills the turbine with half the steam it can hold, and removes any energy and water it produced, so that the turbine sees the same inputs every tick.
+     */
+    private static void supply(TurbineMultiblockData turbine) {
+        turbine.chemicalTank.setStack(MekanismChemicals.STEAM.getStack(getSteamSupply(turbine)));
+        turbine.energyContainer.setEmpty();
+        turbine.ventTank.setEmpty();
+    }
+
+    private static long getSteamSupply(TurbineMultiblockData turbine) {
+        return turbine.chemicalTank.getCapacity() / 2;
+    }
+
+    private static TurbineMultiblockData getTurbine(MekGameTestHelper helper) {
+        TileEntityTurbineCasing tile = helper.getBlockEntity(CASING);
+        return tile.getMultiblock();
+    }
+}
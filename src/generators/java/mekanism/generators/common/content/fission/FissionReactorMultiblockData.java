@@ -23,6 +23,7 @@ import mekanism.api.math.MathUtils;
 import mekanism.api.radiation.IRadiationManager;
 import mekanism.common.capabilities.chemical.VariableCapacityChemicalTank;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
+import mekanism.common.capabilities.heat.AmbientTemperatureLookup;
 import mekanism.common.capabilities.heat.VariableHeatCapacitor;
 import mekanism.common.capabilities.merged.MergedTank;
 import mekanism.common.capabilities.merged.MergedTank.CurrentType;
@@ -93,36 +94,36 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     public final MergedTank coolantTank;
     @ContainerSync
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getFuel", "getFuelCapacity", "getFuelNeeded",
-                                                                                        "getFuelFilledPercentage"}, docPlaceholder = "fuel tank")
+                                                                                        "getFuelFilledPercentage"}, docPlaceholder = "fuel tank", snapshot = true)
     public final IChemicalTank fuelTank;
 
     @ContainerSync
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getHeatedCoolant", "getHeatedCoolantCapacity", "getHeatedCoolantNeeded",
-                                                                                        "getHeatedCoolantFilledPercentage"}, docPlaceholder = "heated coolant")
+                                                                                        "getHeatedCoolantFilledPercentage"}, docPlaceholder = "heated coolant", snapshot = true)
     public final IChemicalTank heatedCoolantTank;
     @ContainerSync
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getWaste", "getWasteCapacity", "getWasteNeeded",
-                                                                                        "getWasteFilledPercentage"}, docPlaceholder = "waste tank")
+                                                                                        "getWasteFilledPercentage"}, docPlaceholder = "waste tank", snapshot = true)
     public final IChemicalTank wasteTank;
     @ContainerSync
-    @WrappingComputerMethod(wrapper = ComputerHeatCapacitorWrapper.class, methodNames = "getTemperature", docPlaceholder = "reactor")
+    @WrappingComputerMethod(wrapper = ComputerHeatCapacitorWrapper.class, methodNames = "getTemperature", docPlaceholder = "reactor", snapshot = true)
     public final VariableHeatCapacitor heatCapacitor;
 
     private double biomeAmbientTemp;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getEnvironmentalLoss")
+    @SyntheticComputerMethod(getter = "getEnvironmentalLoss", snapshotGetter = true)
     public double lastEnvironmentLoss = 0;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getHeatingRate")
+    @SyntheticComputerMethod(getter = "getHeatingRate", snapshotGetter = true)
     public long lastBoilRate = 0;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getActualBurnRate", getterDescription = "Actual burn rate as it may be lower if say there is not enough fuel")
+    @SyntheticComputerMethod(getter = "getActualBurnRate", snapshotGetter = true, getterDescription = "Actual burn rate as it may be lower if say there is not enough fuel")
     public double lastBurnRate = 0;
     private boolean clientBurning;
     @ContainerSync
     public double reactorDamage = 0;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getBurnRate", getterDescription = "Configured burn rate")
+    @SyntheticComputerMethod(getter = "getBurnRate", snapshotGetter = true, getterDescription = "Configured burn rate")
     public double rateLimit = MekanismGeneratorsConfig.generators.defaultBurnRate.get();
     public double burnRemaining = 0, partialWaste = 0;
     @ContainerSync
@@ -145,7 +146,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     public FissionReactorMultiblockData(TileEntityFissionReactorCasing tile) {
         super(tile);
         //Default biome temp to the ambient temperature at the block we are at
-        biomeAmbientTemp = HeatAPI.getAmbientTemp(tile.getLevel(), tile.getBlockPos());
+        biomeAmbientTemp = AmbientTemperatureLookup.getAmbientTemp(tile.getLevel(), tile.getBlockPos());
         LongSupplier fuelCapacitySupplier = () -> fuelCapacity;
         coolantTank = MergedTank.create(
               VariableCapacityFluidTank.input(this, () -> cooledCoolantCapacity, fluid -> fluid.is(FluidTags.WATER), this),
@@ -508,12 +509,12 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         }
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public boolean isForceDisabled() {
         return forceDisable;
     }
 
-    @ComputerMethod(nameOverride = "getStatus", methodDescription = "true -> active, false -> off")
+    @ComputerMethod(nameOverride = "getStatus", methodDescription = "true -> active, false -> off", snapshot = true)
     public boolean isActive() {
         return active;
     }
@@ -534,7 +535,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return getBounds().isOnCorner(tile.getBlockPos());
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public double getBoilEfficiency() {
         if (fuelAssemblies == 0) {
             //If for some reason the assemblies somehow haven't been initialized (even though they have to be to form)
@@ -545,12 +546,12 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return Math.min(1, avgSurfaceArea / MekanismGeneratorsConfig.generators.fissionSurfaceAreaTarget.get());
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public long getMaxBurnRate() {
         return fuelAssemblies * MekanismGeneratorsConfig.generators.burnPerAssembly.get();
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public long getDamagePercent() {
         return Math.round((reactorDamage / FissionReactorMultiblockData.MAX_DAMAGE) * 100);
     }
@@ -16,6 +16,7 @@ import mekanism.api.math.MathUtils;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.listener.ConfigBasedCachedSupplier;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerChemicalTankWrapper;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
@@ -53,6 +54,13 @@ public class TurbineMultiblockData extends MultiblockData {
 
     public static final float ROTATION_THRESHOLD = 0.001F;
     public static final Object2FloatMap<UUID> clientRotationMap = new Object2FloatOpenHashMap<>();
+    /**
+     * Token that is replaced whenever one of the config values the flow of steam depends on changes, so that turbines know they have to simulate their flow again.
+     */
+    private static final ConfigBasedCachedSupplier<Object> FLOW_CONFIG = new ConfigBasedCachedSupplier<>(Object::new, MekanismConfig.general.maxEnergyPerSteam,
+          MekanismGeneratorsConfig.generators.turbineBladesPerCoil, MekanismGeneratorsConfig.generators.turbineDisperserChemicalFlow,
+          MekanismGeneratorsConfig.generators.turbineVentChemicalFlow, MekanismGeneratorsConfig.generators.turbineChemicalPerTank,
+          MekanismGeneratorsConfig.generators.condenserRate);
 
     private final List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> fluidOutputTargets = new ArrayList<>();
     private final List<BlockEnergyCapabilityCache> energyOutputTargets = new ArrayList<>();
@@ -100,6 +108,14 @@ public class TurbineMultiblockData extends MultiblockData {
     public float clientRotation;
     public float prevSteamScale;
 
+    /**
+     * The last flow that was simulated, which gets replayed for as long as the turbine is given the same inputs.
+     *
+     * @implNote The rest of the inputs are the structure of the turbine, which only changes when it is reformed into a new instance or its vents are updated.
+     */
+    @Nullable
+    private FlowResult lastFlow;
+
     public TurbineMultiblockData(TileEntityTurbineCasing tile) {
         super(tile);
         chemicalTanks.add(chemicalTank = new TurbineChemicalTank(this, createSaveAndComparator()));
@@ -140,23 +156,17 @@ public class TurbineMultiblockData extends MultiblockData {
 
         long energyNeeded = energyContainer.getNeeded();
         if (stored > 0 && energyNeeded > 0L) {
-            double energyMultiplier = (MekanismConfig.general.maxEnergyPerSteam.get() / (double) TurbineValidator.MAX_BLADES)
-                                      * (Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
-            if (energyMultiplier < Mth.EPSILON) {
-                clientFlow = 0;
-            } else {
-                double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserChemicalFlow.get());
-                rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentChemicalFlow.get());
-                double proportion = stored / (double) getSteamCapacity();
-                double origRate = rate;
-                rate = Math.min(Math.min(stored, rate), (energyNeeded / energyMultiplier)) * proportion;
-                clientFlow = MathUtils.clampToLong(rate);
-                if (clientFlow > 0) {
-                    flowRate = rate / origRate;
-                    energyContainer.insert(MathUtils.clampToLong(energyMultiplier * rate), Action.EXECUTE, AutomationType.INTERNAL);
-                    chemicalTank.shrinkStack(clientFlow, Action.EXECUTE);
-                    ventTank.setStack(new FluidStack(Fluids.WATER, Math.min(MathUtils.clampToInt(rate), condensers * MekanismGeneratorsConfig.generators.condenserRate.get())));
-                }
+            FlowResult flow = lastFlow;
+            if (flow == null || !flow.isFor(stored, energyNeeded)) {
+                //Note: While the turbine is in a steady state, the same steam and energy go in every tick, so we can replay the last result
+                lastFlow = flow = simulateFlow(stored, energyNeeded);
+            }
+            clientFlow = flow.flow();
+            if (clientFlow > 0) {
+                flowRate = flow.flowRate();
+                energyContainer.insert(flow.energyProduced(), Action.EXECUTE, AutomationType.INTERNAL);
+                chemicalTank.shrinkStack(clientFlow, Action.EXECUTE);
+                ventTank.setStack(new FluidStack(Fluids.WATER, flow.waterProduced()));
             }
         } else {
             clientFlow = 0;
@@ -194,6 +204,32 @@ public class TurbineMultiblockData extends MultiblockData {
         return needsPacket;
     }
 
+    /**
+     * Calculates how much steam the turbine would use and what it would produce this tick, without applying any of it.
+     *
+     * @param stored       Amount of steam stored in the turbine.
+     * @param energyNeeded Amount of energy the turbine has room for.
+     */
+    public FlowResult simulateFlow(long stored, long energyNeeded) {
+        Object config = FLOW_CONFIG.get();
+        double energyMultiplier = (MekanismConfig.general.maxEnergyPerSteam.get() / (double) TurbineValidator.MAX_BLADES)
+                                  * (Math.min(blades, coils * MekanismGeneratorsConfig.generators.turbineBladesPerCoil.get()));
+        if (energyMultiplier < Mth.EPSILON) {
+            return new FlowResult(stored, energyNeeded, config, 0, 0, 0, 0);
+        }
+        double rate = lowerVolume * (getDispersers() * MekanismGeneratorsConfig.generators.turbineDisperserChemicalFlow.get());
+        rate = Math.min(rate, vents * MekanismGeneratorsConfig.generators.turbineVentChemicalFlow.get());
+        double proportion = stored / (double) getSteamCapacity();
+        double origRate = rate;
+        rate = Math.min(Math.min(stored, rate), (energyNeeded / energyMultiplier)) * proportion;
+        long flow = MathUtils.clampToLong(rate);
+        if (flow <= 0) {
+            return new FlowResult(stored, energyNeeded, config, flow, 0, 0, 0);
+        }
+        return new FlowResult(stored, energyNeeded, config, flow, rate / origRate, MathUtils.clampToLong(energyMultiplier * rate),
+              Math.min(MathUtils.clampToInt(rate), condensers * MekanismGeneratorsConfig.generators.condenserRate.get()));
+    }
+
     private long getDumpingAmount(long stored) {
         return Math.min(stored, Math.max(stored / 50, lastSteamInput * 2));
     }
@@ -201,6 +237,7 @@ public class TurbineMultiblockData extends MultiblockData {
     public void updateVentData(List<VentData> vents) {
         this.ventData = vents;
         this.vents = this.ventData.size();
+        lastFlow = null;
     }
 
     @Override
@@ -302,4 +339,22 @@ public class TurbineMultiblockData extends MultiblockData {
 
     public record VentData(BlockPos location, Direction side) {
     }
+
+    /**
+     * Result of simulating the flow of steam through the turbine for a single tick.
+     *
+     * @param stored         Amount of steam the simulation was run for.
+     * @param energyNeeded   Amount of energy the turbine had room for when the simulation was run.
+     * @param config         Token of the config values the simulation was run with.
+     * @param flow           Amount of steam that flows through the turbine.
+     * @param flowRate       Fraction of the maximum flow that the flow is.
+     * @param energyProduced Amount of energy that is produced.
+     * @param waterProduced  Amount of water that is condensed.
+     */
+    public record FlowResult(long stored, long energyNeeded, Object config, long flow, double flowRate, long energyProduced, int waterProduced) {
+
+        private boolean isFor(long stored, long energyNeeded) {
+            return this.stored == stored && this.energyNeeded == energyNeeded && config == FLOW_CONFIG.get();
+        }
+    }
 }
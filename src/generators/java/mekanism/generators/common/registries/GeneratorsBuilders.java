@@ -20,7 +20,7 @@ public class GeneratorsBuilders {
         }
 
         @Override
-        protected void build(Level world, BlockPos start, boolean empty) {
+        public void build(Level world, BlockPos start, boolean empty) {
             buildFrame(world, start);
             buildWalls(world, start);
             //Clear out the inside
@@ -62,7 +62,7 @@ public class GeneratorsBuilders {
         }
 
         @Override
-        protected void build(Level world, BlockPos start, boolean empty) {
+        public void build(Level world, BlockPos start, boolean empty) {
             buildFrame(world, start);
             buildWalls(world, start);
             if (empty) {
@@ -102,7 +102,7 @@ public class GeneratorsBuilders {
         }
 
         @Override
-        protected void build(Level world, BlockPos start, boolean empty) {
+        public void build(Level world, BlockPos start, boolean empty) {
             buildPartialFrame(world, start, 1);
             buildWalls(world, start);
             buildInteriorLayers(world, start, 1, 3, Blocks.AIR);
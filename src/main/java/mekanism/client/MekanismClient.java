@@ -3,6 +3,7 @@ package mekanism.client;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Map;
 import java.util.UUID;
+import mekanism.client.render.RenderResizableCuboid;
 import mekanism.client.render.RenderTickHandler;
 import mekanism.client.render.tileentity.RenderSPS;
 import mekanism.client.sound.SoundHandler;
@@ -62,6 +63,7 @@ public class MekanismClient {
         RenderSPS.clearBoltRenderers();
         TransmitterNetworkRegistry.clearClientNetworks();
         RenderTickHandler.clearQueued();
+        RenderResizableCuboid.resetCachedMeshes();
 
         for (IModModule module : Mekanism.modulesLoaded) {
             module.resetClientDimensionChanged();
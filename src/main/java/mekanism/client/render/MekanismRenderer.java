@@ -322,6 +322,7 @@ public class MekanismRenderer {
         RenderNutritionalLiquifier.resetCachedModels();
         RenderPigmentMixer.resetCached();
         RenderMechanicalPipe.onStitch();
+        RenderResizableCuboid.resetCachedMeshes();
         RenderSeismicVibrator.resetCached();
         RenderTickHandler.resetCached();
         RenderTeleporter.resetCachedModels();
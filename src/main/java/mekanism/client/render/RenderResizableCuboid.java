@@ -2,6 +2,11 @@ package mekanism.client.render;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteList;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import java.util.Arrays;
 import mekanism.client.render.MekanismRenderer.Model3D;
 import mekanism.common.util.EnumUtils;
@@ -29,9 +34,11 @@ public class RenderResizableCuboid {
      */
     private static final int[] combinedARGB = new int[EnumUtils.DIRECTIONS.length];
     private static final Vector3f NORMAL = new Vector3f(1, 1, 1).normalize();
-    private static final int X_AXIS_MASK = 1 << Axis.X.ordinal();
-    private static final int Y_AXIS_MASK = 1 << Axis.Y.ordinal();
-    private static final int Z_AXIS_MASK = 1 << Axis.Z.ordinal();
+    private static final int MAX_CACHED_MESHES = 128;
+    /**
+     * Meshes of recently rendered cuboids, in least recently used order. Only accessed from the render thread.
+     */
+    private static final Object2ObjectLinkedOpenHashMap<MeshKey, CuboidMesh> cachedMeshes = new Object2ObjectLinkedOpenHashMap<>();
 
     private RenderResizableCuboid() {
     }
@@ -106,33 +113,51 @@ public class RenderResizableCuboid {
         float maxX = cube.maxX - xShift;
         float maxY = cube.maxY - yShift;
         float maxZ = cube.maxZ - zShift;
-        int xDelta = calculateDelta(minX, maxX);
-        int yDelta = calculateDelta(minY, maxY);
-        int zDelta = calculateDelta(minZ, maxZ);
-        float[] xBounds = getBlockBounds(xDelta, minX, maxX);
-        float[] yBounds = getBlockBounds(yDelta, minY, maxY);
-        float[] zBounds = getBlockBounds(zDelta, minZ, maxZ);
+        CuboidMesh mesh = getMesh(new MeshKey(sprites, minX, minY, minZ, maxX, maxY, maxZ));
 
         matrix.pushPose();
         matrix.translate(xShift, yShift, zShift);
         PoseStack.Pose lastMatrix = matrix.last();
-        Matrix4f matrix4f = lastMatrix.pose();
-        NormalData normal = new NormalData(lastMatrix.normal(), NORMAL, faceDisplay);
+        mesh.render(buffer, lastMatrix.pose(), colors, light, overlay, faceDisplay, new NormalData(lastMatrix.normal(), NORMAL, faceDisplay));
+        matrix.popPose();
+    }
 
-        if ((axisToRender & X_AXIS_MASK) != 0) {
-            renderSideXAxis(buffer, colors, light, overlay, faceDisplay, xDelta, yDelta, zDelta, sprites, yBounds, zBounds, xBounds, matrix4f, normal);
-        }
-        if ((axisToRender & Y_AXIS_MASK) != 0) {
-            renderSideYAxis(buffer, colors, light, overlay, faceDisplay, xDelta, yDelta, zDelta, sprites, yBounds, zBounds, xBounds, matrix4f, normal);
-        }
-        if ((axisToRender & Z_AXIS_MASK) != 0) {
-            renderSideZAxis(buffer, colors, light, overlay, faceDisplay, xDelta, yDelta, zDelta, sprites, yBounds, zBounds, xBounds, matrix4f, normal);
+    /**
+     * Clears all cached meshes, should be called when the atlases are restitched or the level changes.
+     */
+    public static void resetCachedMeshes() {
+        cachedMeshes.clear();
+    }
+
+    private static CuboidMesh getMesh(MeshKey key) {
+        CuboidMesh mesh = cachedMeshes.getAndMoveToLast(key);
+        if (mesh == null) {
+            mesh = buildMesh(key);
+            cachedMeshes.putAndMoveToLast(key, mesh);
+            if (cachedMeshes.size() > MAX_CACHED_MESHES) {
+                //Evict the least recently used mesh
+                cachedMeshes.removeFirst();
+            }
         }
+        return mesh;
+    }
 
-        matrix.popPose();
+    private static CuboidMesh buildMesh(MeshKey key) {
+        int xDelta = calculateDelta(key.minX, key.maxX);
+        int yDelta = calculateDelta(key.minY, key.maxY);
+        int zDelta = calculateDelta(key.minZ, key.maxZ);
+        float[] xBounds = getBlockBounds(xDelta, key.minX, key.maxX);
+        float[] yBounds = getBlockBounds(yDelta, key.minY, key.maxY);
+        float[] zBounds = getBlockBounds(zDelta, key.minZ, key.maxZ);
+        CuboidMesh.Builder builder = new CuboidMesh.Builder();
+        renderSideXAxis(builder, xDelta, yDelta, zDelta, key.sprites, yBounds, zBounds, xBounds);
+        renderSideYAxis(builder, xDelta, yDelta, zDelta, key.sprites, yBounds, zBounds, xBounds);
+        renderSideZAxis(builder, xDelta, yDelta, zDelta, key.sprites, yBounds, zBounds, xBounds);
+        return builder.build();
     }
 
-    private static void renderSideZAxis(VertexConsumer buffer, int[] colors, int light, int overlay, FaceDisplay faceDisplay, int xDelta, int yDelta, int zDelta, TextureAtlasSprite[] sprites, float[] yBounds, float[] zBounds, float[] xBounds, Matrix4f matrix4f, NormalData normal) {
+    private static void renderSideZAxis(CuboidMesh.Builder builder, int xDelta, int yDelta, int zDelta, TextureAtlasSprite[] sprites, float[] yBounds, float[] zBounds,
+          float[] xBounds) {
 
         TextureAtlasSprite northSprite = sprites[Direction.NORTH.ordinal()];
         TextureAtlasSprite southSprite = sprites[Direction.SOUTH.ordinal()];
@@ -143,17 +168,6 @@ public class RenderResizableCuboid {
             return; //sanity check failed
         }
 
-        int colorNorth = colors[Direction.NORTH.ordinal()];
-        int colorSouth = colors[Direction.SOUTH.ordinal()];
-
-        int redNorth = ARGB32.red(colorNorth);
-        int greenNorth = ARGB32.green(colorNorth);
-        int blueNorth = ARGB32.blue(colorNorth);
-        int alphaNorth = ARGB32.alpha(colorNorth);
-        int redSouth = ARGB32.red(colorSouth);
-        int greenSouth = ARGB32.green(colorSouth);
-        int blueSouth = ARGB32.blue(colorSouth);
-        int alphaSouth = ARGB32.alpha(colorSouth);
 
         // render each side
         for (int y = 0; y <= yDelta; y += 1) {
@@ -217,27 +231,28 @@ public class RenderResizableCuboid {
                     float z1 = zBounds[0];
                     // add quads
 
-                    drawFace(buffer, matrix4f, minUNorth, maxUNorth, minVNorth, maxVNorth, light, overlay, faceDisplay, normal,
+                    builder.addQuad(Direction.NORTH, minUNorth, maxUNorth, minVNorth, maxVNorth,
                           x1, y1, z1,
                           x1, y2, z1,
                           x2, y2, z1,
-                          x2, y1, z1, redNorth, greenNorth, blueNorth, alphaNorth);
+                          x2, y1, z1);
                 }
                 if (hasSouth) {
                     float z2 = zBounds[zDelta + 1];
                     // add quads
-                    drawFace(buffer, matrix4f, minUSouth, maxUSouth, minVSouth, maxVSouth, light, overlay, faceDisplay, normal,
+                    builder.addQuad(Direction.SOUTH, minUSouth, maxUSouth, minVSouth, maxVSouth,
                           x2, y1, z2,
                           x2, y2, z2,
                           x1, y2, z2,
-                          x1, y1, z2, redSouth, greenSouth, blueSouth, alphaSouth);
+                          x1, y1, z2);
                 }
 
             }
         }
     }
 
-    private static void renderSideXAxis(VertexConsumer buffer, int[] colors, int light, int overlay, FaceDisplay faceDisplay, int xDelta, int yDelta, int zDelta, TextureAtlasSprite[] sprites, float[] yBounds, float[] zBounds, float[] xBounds, Matrix4f matrix4f, NormalData normal) {
+    private static void renderSideXAxis(CuboidMesh.Builder builder, int xDelta, int yDelta, int zDelta, TextureAtlasSprite[] sprites, float[] yBounds, float[] zBounds,
+          float[] xBounds) {
         TextureAtlasSprite westSprite = sprites[Direction.WEST.ordinal()];
         TextureAtlasSprite eastSprite = sprites[Direction.EAST.ordinal()];
         boolean hasWest = westSprite != null;
@@ -247,16 +262,6 @@ public class RenderResizableCuboid {
             return; //sanity check failed
         }
 
-        int westColor = colors[Direction.WEST.ordinal()];
-        int eastColor = colors[Direction.EAST.ordinal()];
-        int redWest = ARGB32.red(westColor);
-        int greenWest = ARGB32.green(westColor);
-        int blueWest = ARGB32.blue(westColor);
-        int alphaWest = ARGB32.alpha(westColor);
-        int redEast = ARGB32.red(eastColor);
-        int greenEast = ARGB32.green(eastColor);
-        int blueEast = ARGB32.blue(eastColor);
-        int alphaEast = ARGB32.alpha(eastColor);
 
         // render each side
         for (int y = 0; y <= yDelta; y += 1) {
@@ -315,27 +320,28 @@ public class RenderResizableCuboid {
                 if (hasWest) {
                     float x1 = xBounds[0];
                     // add quads
-                    drawFace(buffer, matrix4f, minUWest, maxUWest, minVWest, maxVWest, light, overlay, faceDisplay, normal,
+                    builder.addQuad(Direction.WEST, minUWest, maxUWest, minVWest, maxVWest,
                           x1, y1, z2,
                           x1, y2, z2,
                           x1, y2, z1,
-                          x1, y1, z1, redWest, greenWest, blueWest, alphaWest);
+                          x1, y1, z1);
                 }
                 if (hasEast) {
                     float x2 = xBounds[xDelta + 1];
                     // add quads
-                    drawFace(buffer, matrix4f, minUEast, maxUEast, minVEast, maxVEast, light, overlay, faceDisplay, normal,
+                    builder.addQuad(Direction.EAST, minUEast, maxUEast, minVEast, maxVEast,
                           x2, y1, z1,
                           x2, y2, z1,
                           x2, y2, z2,
-                          x2, y1, z2, redEast, greenEast, blueEast, alphaEast);
+                          x2, y1, z2);
 
                 }
             }
         }
     }
 
-    private static void renderSideYAxis(VertexConsumer buffer, int[] colors, int light, int overlay, FaceDisplay faceDisplay, int xDelta, int yDelta, int zDelta, TextureAtlasSprite[] sprites, float[] yBounds, float[] zBounds, float[] xBounds, Matrix4f matrix4f, NormalData normal) {
+    private static void renderSideYAxis(CuboidMesh.Builder builder, int xDelta, int yDelta, int zDelta, TextureAtlasSprite[] sprites, float[] yBounds, float[] zBounds,
+          float[] xBounds) {
         TextureAtlasSprite upSprite = sprites[Direction.UP.ordinal()];
         TextureAtlasSprite downSprite = sprites[Direction.DOWN.ordinal()];
         boolean hasUp = upSprite != null;
@@ -345,16 +351,6 @@ public class RenderResizableCuboid {
             return; //sanity check failed
         }
 
-        int downColor = colors[Direction.DOWN.ordinal()];
-        int upColor = colors[Direction.UP.ordinal()];
-        int redUp = ARGB32.red(upColor);
-        int greenUp = ARGB32.green(upColor);
-        int blueUp = ARGB32.blue(upColor);
-        int alphaUp = ARGB32.alpha(upColor);
-        int redDown = ARGB32.red(downColor);
-        int greenDown = ARGB32.green(downColor);
-        int blueDown = ARGB32.blue(downColor);
-        int alphaDown = ARGB32.alpha(downColor);
 
         // render each side
         for (int z = 0; z <= zDelta; z += 1) {
@@ -413,20 +409,20 @@ public class RenderResizableCuboid {
                 if (hasUp) {
                     float y2 = yBounds[yDelta + 1];
                     // add quads
-                    drawFace(buffer, matrix4f, minUUp, maxUUp, minVUp, maxVUp, light, overlay, faceDisplay, normal,
+                    builder.addQuad(Direction.UP, minUUp, maxUUp, minVUp, maxVUp,
                           x1, y2, z1,
                           x1, y2, z2,
                           x2, y2, z2,
-                          x2, y2, z1, redUp, greenUp, blueUp, alphaUp);
+                          x2, y2, z1);
                 }
                 if (hasDown) {
                     float y1 = yBounds[0];
                     // add quads
-                    drawFace(buffer, matrix4f, minU, maxU, minV, maxV, light, overlay, faceDisplay, normal,
+                    builder.addQuad(Direction.DOWN, minU, maxU, minV, maxV,
                           x1, y1, z2,
                           x1, y1, z1,
                           x2, y1, z1,
-                          x2, y1, z2, redDown, greenDown, blueDown, alphaDown);
+                          x2, y1, z2);
                 }
             }
         }
@@ -462,66 +458,6 @@ public class RenderResizableCuboid {
         return delta;
     }
 
-    private static void drawFace(VertexConsumer buffer, Matrix4f matrix, float minU, float maxU, float minV, float maxV, int light, int overlay,
-          FaceDisplay faceDisplay, NormalData normal,
-          float x1, float y1, float z1,
-          float x2, float y2, float z2,
-          float x3, float y3, float z3,
-          float x4, float y4, float z4, int red, int green, int blue, int alpha) {
-        if (faceDisplay.front) {
-            buffer.addVertex(matrix, x1, y1, z1)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(minU, maxV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.front.x(), normal.front.y(), normal.front.z());
-            buffer.addVertex(matrix, x2, y2, z2)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(minU, minV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.front.x(), normal.front.y(), normal.front.z());
-            buffer.addVertex(matrix, x3, y3, z3)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(maxU, minV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.front.x(), normal.front.y(), normal.front.z());
-            buffer.addVertex(matrix, x4, y4, z4)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(maxU, maxV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.front.x(), normal.front.y(), normal.front.z());
-        }
-        if (faceDisplay.back) {
-            buffer.addVertex(matrix, x4, y4, z4)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(maxU, maxV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.back.x(), normal.back.y(), normal.back.z());
-            buffer.addVertex(matrix, x3, y3, z3)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(maxU, minV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.back.x(), normal.back.y(), normal.back.z());
-            buffer.addVertex(matrix, x2, y2, z2)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(minU, minV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.back.x(), normal.back.y(), normal.back.z());
-            buffer.addVertex(matrix, x1, y1, z1)
-                  .setColor(red, green, blue, alpha)
-                  .setUv(minU, maxV)
-                  .setOverlay(overlay)
-                  .setLight(light)
-                  .setNormal(normal.back.x(), normal.back.y(), normal.back.z());
-        }
-    }
-
     private static float minBound(float min, float max) {
         // wrap UV to be between 0 and 1, assumes none of the positions lie outside the 0, 0, 0 to 1, 1, 1 range
         // however, one of them might be exactly on the 1.0 bound, that one should be set to 1 instead of left at 0
@@ -544,6 +480,132 @@ public class RenderResizableCuboid {
         return max == 0 ? 1 : max;
     }
 
+    /**
+     * Key for a cached mesh. The bounds are the ones after the cube has been shifted so that the min values are all in the range [0, 1), and the sprites are only set
+     * for faces that are being rendered.
+     */
+    private static final class MeshKey {
+
+        private final TextureAtlasSprite[] sprites;
+        private final float minX, minY, minZ;
+        private final float maxX, maxY, maxZ;
+        private final int hash;
+
+        private MeshKey(TextureAtlasSprite[] sprites, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+            this.sprites = sprites;
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+            int result = Arrays.hashCode(sprites);
+            result = 31 * result + Float.hashCode(minX);
+            result = 31 * result + Float.hashCode(minY);
+            result = 31 * result + Float.hashCode(minZ);
+            result = 31 * result + Float.hashCode(maxX);
+            result = 31 * result + Float.hashCode(maxY);
+            this.hash = 31 * result + Float.hashCode(maxZ);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (o instanceof MeshKey other) {
+                return Float.compare(minX, other.minX) == 0 && Float.compare(minY, other.minY) == 0 && Float.compare(minZ, other.minZ) == 0 &&
+                       Float.compare(maxX, other.maxX) == 0 && Float.compare(maxY, other.maxY) == 0 && Float.compare(maxZ, other.maxZ) == 0 &&
+                       Arrays.equals(sprites, other.sprites);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Pre-tessellated positions and UVs of all the quads of a cuboid. Colors, lighting, and the pose are applied when the mesh is rendered, so one mesh can be reused
+     * across frames and renderers.
+     */
+    private static final class CuboidMesh {
+
+        /**
+         * x, y, z, u, v for each of the four vertices of a quad
+         */
+        private static final int QUAD_STRIDE = 4 * 5;
+
+        private final float[] vertices;
+        private final byte[] faces;
+
+        private CuboidMesh(float[] vertices, byte[] faces) {
+            this.vertices = vertices;
+            this.faces = faces;
+        }
+
+        private void render(VertexConsumer buffer, Matrix4f matrix, int[] colors, int light, int overlay, FaceDisplay faceDisplay, NormalData normal) {
+            for (int quad = 0; quad < faces.length; quad++) {
+                int color = colors[faces[quad]];
+                int red = ARGB32.red(color);
+                int green = ARGB32.green(color);
+                int blue = ARGB32.blue(color);
+                int alpha = ARGB32.alpha(color);
+                int start = quad * QUAD_STRIDE;
+                if (faceDisplay.front) {
+                    for (int vertex = 0; vertex < 4; vertex++) {
+                        addVertex(buffer, matrix, start + vertex * 5, red, green, blue, alpha, light, overlay, normal.front);
+                    }
+                }
+                if (faceDisplay.back) {
+                    for (int vertex = 3; vertex >= 0; vertex--) {
+                        addVertex(buffer, matrix, start + vertex * 5, red, green, blue, alpha, light, overlay, normal.back);
+                    }
+                }
+            }
+        }
+
+        private void addVertex(VertexConsumer buffer, Matrix4f matrix, int index, int red, int green, int blue, int alpha, int light, int overlay, Vector3f normal) {
+            buffer.addVertex(matrix, vertices[index], vertices[index + 1], vertices[index + 2])
+                  .setColor(red, green, blue, alpha)
+                  .setUv(vertices[index + 3], vertices[index + 4])
+                  .setOverlay(overlay)
+                  .setLight(light)
+                  .setNormal(normal.x(), normal.y(), normal.z());
+        }
+
+        private static class Builder {
+
+            private final FloatList vertices = new FloatArrayList();
+            private final ByteList faces = new ByteArrayList();
+
+            private void addQuad(Direction face, float minU, float maxU, float minV, float maxV,
+                  float x1, float y1, float z1,
+                  float x2, float y2, float z2,
+                  float x3, float y3, float z3,
+                  float x4, float y4, float z4) {
+                faces.add((byte) face.ordinal());
+                addVertex(x1, y1, z1, minU, maxV);
+                addVertex(x2, y2, z2, minU, minV);
+                addVertex(x3, y3, z3, maxU, minV);
+                addVertex(x4, y4, z4, maxU, maxV);
+            }
+
+            private void addVertex(float x, float y, float z, float u, float v) {
+                vertices.add(x);
+                vertices.add(y);
+                vertices.add(z);
+                vertices.add(u);
+                vertices.add(v);
+            }
+
+            private CuboidMesh build() {
+                return new CuboidMesh(vertices.toFloatArray(), faces.toByteArray());
+            }
+        }
+    }
+
     /**
      * Used to only have to calculate normals once rather than transforming based on the matrix for every vertex call. If a face shouldn't be displayed the normal vector
      * will be zero.
@@ -24,6 +24,7 @@ import mekanism.client.render.lib.Outlines;
 import mekanism.client.render.lib.Outlines.Line;
 import mekanism.client.render.lib.effect.BoltRenderer;
 import mekanism.client.render.tileentity.IWireFrameRenderer;
+import mekanism.client.render.transmitter.RenderLogisticalTransporter;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ProfilerConstants;
 import mekanism.common.block.BlockBounding;
@@ -114,6 +115,7 @@ public class RenderTickHandler {
     public static void clearQueued() {
         RadiationOverlay.INSTANCE.resetRadiation();
         transparentRenderers.clear();
+        RenderLogisticalTransporter.clearBatchedItems();
     }
 
     public static void resetCached() {
@@ -180,7 +182,17 @@ public class RenderTickHandler {
 
     @SubscribeEvent
     public void renderWorld(RenderLevelStageEvent event) {
-        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_BLOCK_ENTITIES) {
+            if (minecraft.level != null) {
+                //Render all the items that are in flight in logistical transporters, grouped by type
+                MultiBufferSource.BufferSource renderer = minecraft.renderBuffers().bufferSource();
+                ProfilerFiller profiler = minecraft.getProfiler();
+                profiler.push(ProfilerConstants.LOGISTICAL_TRANSPORTER);
+                RenderLogisticalTransporter.renderBatchedItems(minecraft.level, event.getCamera(), event.getPoseStack(), renderer);
+                renderer.endBatch();
+                profiler.pop();
+            }
+        } else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
             //Only do matrix transforms and mess with buffers if we actually have any renders to render
             if (!transparentRenderers.isEmpty()) {
                 Camera camera = event.getCamera();
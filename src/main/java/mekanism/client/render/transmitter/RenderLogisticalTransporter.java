@@ -26,6 +26,7 @@ import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.TransporterUtils;
+import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
@@ -59,8 +60,18 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
     private static TextureAtlasSprite torchOffIcon;
     @Nullable
     private static TextureAtlasSprite torchOnIcon;
+    /**
+     * Maximum number of in flight stacks that will be rendered per frame across all transporters when transporter item culling is enabled.
+     */
+    private static final int MAX_BATCHED_ITEMS = 4_096;
+    /**
+     * Past this distance only a few stacks of each type are rendered per chunk section when transporter item culling is enabled.
+     */
+    private static final double ITEM_LOD_DISTANCE = 24;
+    private static final int ITEM_LOD_PER_SECTION = 8;
+    private static final TransporterItemBatch itemBatch = new TransporterItemBatch(MekanismConfig.client.transporterItemCulling, MAX_BATCHED_ITEMS, ITEM_LOD_DISTANCE, ITEM_LOD_PER_SECTION);
+    private static final LazyItemRenderer itemRenderer = new LazyItemRenderer();
     private final ModelTransporterBox modelBox;
-    private final LazyItemRenderer itemRenderer = new LazyItemRenderer();
 
     public RenderLogisticalTransporter(BlockEntityRendererProvider.Context context) {
         super(context);
@@ -82,23 +93,20 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         if (!MekanismConfig.client.opaqueTransmitters.get()) {
             Collection<TransporterStack> inTransit = transporter.getTransit();
             if (!inTransit.isEmpty()) {
-                matrix.pushPose();
-                itemRenderer.init(tile.getLevel(), pos);
-
                 float partial = partialTick * transporter.tier.getSpeed();
+                Vec3 cameraPos = getCamera().getPosition();
                 Collection<TransporterStack> reducedTransit = getReducedTransit(inTransit);
                 for (TransporterStack stack : reducedTransit) {
                     float[] stackPos = TransporterUtils.getStackPosition(transporter, stack, partial);
-                    matrix.pushPose();
-                    matrix.translate(stackPos[0], stackPos[1], stackPos[2]);
-                    matrix.scale(0.75F, 0.75F, 0.75F);
-                    itemRenderer.renderAsStack(matrix, renderer, stack.itemStack, light);
-                    matrix.popPose();
+                    //Queue the item to be rendered with all other stacks of the same type once all transporters have been visited
+                    double x = pos.getX() + stackPos[0];
+                    double y = pos.getY() + stackPos[1];
+                    double z = pos.getZ() + stackPos[2];
+                    itemBatch.add(stack.itemStack, x, y, z, light, cameraPos.distanceToSqr(x, y, z));
                     if (stack.color != null) {
                         modelBox.render(matrix, renderer, overlayLight, stackPos[0], stackPos[1], stackPos[2], stack.color);
                     }
                 }
-                matrix.popPose();
             }
         }
         if (transporter instanceof DiversionTransporter diversionTransporter) {
@@ -119,6 +127,35 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         }
     }
 
+    /**
+     * Renders all the in flight stacks that were queued by transporters this frame, one item type at a time.
+     */
+    public static void renderBatchedItems(Level level, Camera camera, PoseStack matrix, MultiBufferSource renderer) {
+        if (itemBatch.isEmpty()) {
+            return;
+        }
+        Vec3 cameraPos = camera.getPosition();
+        itemRenderer.init(level, camera.getBlockPosition());
+        itemBatch.forEach((stack, positions, lights, counts) -> {
+            itemRenderer.setItem(stack);
+            for (int instance = 0, size = lights.size(); instance < size; instance++) {
+                int index = 3 * instance;
+                //Note: The item entity holds onto the stack we gave it, so this changes how many copies of the item it renders
+                stack.setCount(counts.getInt(instance));
+                matrix.pushPose();
+                matrix.translate(positions.getDouble(index) - cameraPos.x, positions.getDouble(index + 1) - cameraPos.y, positions.getDouble(index + 2) - cameraPos.z);
+                matrix.scale(0.75F, 0.75F, 0.75F);
+                itemRenderer.render(matrix, renderer, lights.getInt(instance));
+                matrix.popPose();
+            }
+        });
+        itemBatch.clear();
+    }
+
+    public static void clearBatchedItems() {
+        itemBatch.reset();
+    }
+
     @Override
     protected String getProfilerSection() {
         return ProfilerConstants.LOGISTICAL_TRANSPORTER;
@@ -214,12 +251,17 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
             entityItem.age = 0;
         }
 
-        private void renderAsStack(PoseStack matrix, MultiBufferSource buffer, ItemStack stack, int light) {
+        private void setItem(ItemStack stack) {
             if (entityItem != null) {
                 if (renderer == null) {
                     renderer = Minecraft.getInstance().getEntityRenderDispatcher().getRenderer(entityItem);
                 }
                 entityItem.setItem(stack);
+            }
+        }
+
+        private void render(PoseStack matrix, MultiBufferSource buffer, int light) {
+            if (entityItem != null && renderer != null) {
                 renderer.render(entityItem, 0, 0, matrix, buffer, light);
             }
         }
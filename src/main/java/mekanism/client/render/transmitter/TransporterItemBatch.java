@@ -0,0 +1,163 @@
+package mekanism.client.render.transmitter;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Collects the in flight stacks of all visible logistical transporters during a frame, grouped by item type, so that the item renderer only has to be set up once per
+ * type once all the transporters have been visited. This class does not touch any rendering state, so the grouping can be exercised without a GPU.
+ *
+ * @implNote Groups are kept between frames and only dropped once a frame passes without any stacks of their type, so that steady item flows don't have to allocate
+ * anything new per frame.
+ */
+@NothingNullByDefault
+public class TransporterItemBatch {
+
+    private final Map<HashedItem, Group> groups = new Object2ObjectOpenHashMap<>();
+    private final BooleanSupplier limitInstances;
+    private final int maxInstances;
+    private final double lodDistanceSqr;
+    private final int lodInstancesPerSection;
+    private int instances;
+
+    /**
+     * @param limitInstances         Whether the following limits should be applied, if not every stack that is added will be rendered.
+     * @param maxInstances           Maximum number of stacks that will be rendered in a single frame.
+     * @param lodDistance            Distance from the camera past which the number of stacks of a single type that will be rendered per chunk section is limited.
+     * @param lodInstancesPerSection Number of stacks of a single type that will be rendered per chunk section past the lod distance.
+     */
+    public TransporterItemBatch(BooleanSupplier limitInstances, int maxInstances, double lodDistance, int lodInstancesPerSection) {
+        this.limitInstances = limitInstances;
+        this.maxInstances = maxInstances;
+        this.lodDistanceSqr = lodDistance * lodDistance;
+        this.lodInstancesPerSection = lodInstancesPerSection;
+    }
+
+    /**
+     * Adds a stack to render at the given world position.
+     *
+     * @param distanceSqr Squared distance between the stack and the camera.
+     *
+     * @return {@code false} if the stack was skipped because of the per frame cap or the level of detail limits.
+     */
+    public boolean add(ItemStack stack, double x, double y, double z, int light, double distanceSqr) {
+        if (stack.isEmpty()) {
+            return false;
+        }
+        boolean limit = limitInstances.getAsBoolean();
+        if (limit && instances >= maxInstances) {
+            return false;
+        }
+        Group group = groups.get(HashedItem.raw(stack));
+        if (group == null) {
+            HashedItem type = HashedItem.create(stack);
+            //Note: We render a copy of the stack so that changing its count to match each instance doesn't affect the actual stacks
+            group = new Group(type.createStack(1));
+            groups.put(type, group);
+        }
+        if (limit && distanceSqr > lodDistanceSqr) {
+            long section = SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z));
+            int rendered = group.perSection.get(section);
+            if (rendered >= lodInstancesPerSection) {
+                return false;
+            }
+            group.perSection.put(section, rendered + 1);
+        }
+        group.positions.add(x);
+        group.positions.add(y);
+        group.positions.add(z);
+        group.lights.add(light);
+        group.counts.add(stack.getCount());
+        instances++;
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return instances == 0;
+    }
+
+    public int getInstances() {
+        return instances;
+    }
+
+    public void forEach(GroupConsumer consumer) {
+        for (Group group : groups.values()) {
+            if (!group.isEmpty()) {
+                consumer.accept(group.stack, group.positions, group.lights, group.counts);
+            }
+        }
+    }
+
+    /**
+     * Clears the stacks that were added this frame, and drops the groups of any types that had no stacks added.
+     */
+    public void clear() {
+        for (Iterator<Group> iterator = groups.values().iterator(); iterator.hasNext(); ) {
+            Group group = iterator.next();
+            if (group.isEmpty()) {
+                iterator.remove();
+            } else {
+                group.clear();
+            }
+        }
+        instances = 0;
+    }
+
+    /**
+     * Drops all groups, for use when the level is unloaded.
+     */
+    public void reset() {
+        groups.clear();
+        instances = 0;
+    }
+
+    @FunctionalInterface
+    public interface GroupConsumer {
+
+        /**
+         * @param stack     Representative stack of the group. Its count may be changed to match each instance, but it should not be modified otherwise.
+         * @param positions Flat list of x, y, z world positions, one triple per instance.
+         * @param lights    Packed light for each instance.
+         * @param counts    Stack size of each instance.
+         */
+        void accept(ItemStack stack, DoubleList positions, IntList lights, IntList counts);
+    }
+
+    private static class Group {
+
+        private final ItemStack stack;
+        private final DoubleList positions = new DoubleArrayList();
+        private final IntList lights = new IntArrayList();
+        private final IntList counts = new IntArrayList();
+        private final Long2IntMap perSection = new Long2IntOpenHashMap();
+
+        private Group(ItemStack stack) {
+            this.stack = stack;
+        }
+
+        private boolean isEmpty() {
+            return lights.isEmpty();
+        }
+
+        private void clear() {
+            positions.clear();
+            lights.clear();
+            counts.clear();
+            if (!perSection.isEmpty()) {
+                perSection.clear();
+            }
+        }
+    }
+}
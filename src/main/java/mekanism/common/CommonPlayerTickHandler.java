@@ -11,11 +11,11 @@ import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.functions.FloatSupplier;
 import mekanism.api.gear.IModule;
-import mekanism.api.gear.IModuleHelper;
 import mekanism.api.math.MathUtils;
 import mekanism.common.base.KeySync;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.gear.IBlastingItem;
+import mekanism.common.content.gear.PlayerModuleProfile;
 import mekanism.common.content.gear.mekasuit.ModuleGravitationalModulatingUnit;
 import mekanism.common.content.gear.mekasuit.ModuleHydraulicPropulsionUnit;
 import mekanism.common.content.gear.mekasuit.ModuleLocomotiveBoostingUnit;
@@ -28,7 +28,6 @@ import mekanism.common.item.interfaces.IJetpackItem.JetpackMode;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.registries.MekanismDamageTypes;
 import mekanism.common.registries.MekanismGameEvents;
-import mekanism.common.registries.MekanismModules;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StorageUtils;
@@ -77,8 +76,13 @@ public class CommonPlayerTickHandler {
         } else if (stack.getItem() instanceof ItemFreeRunners freeRunners && freeRunners.getMode(stack).providesStepBoost()) {
             return 0.5F;
         }
-        IModule<ModuleHydraulicPropulsionUnit> hydraulic = IModuleHelper.INSTANCE.getIfEnabled(stack, MekanismModules.HYDRAULIC_PROPULSION_UNIT);
-        return hydraulic != null ? hydraulic.getCustomInstance().getStepHeight() : 0F;
+        return PlayerModuleProfile.get(player).getStepHeight();
+    }
+
+    @SubscribeEvent
+    public void onTickStart(PlayerTickEvent.Pre event) {
+        //Note: We refresh the profile once per tick so that the handlers that query it during the tick only have to read it
+        PlayerModuleProfile.refresh(event.getEntity());
     }
 
     @SubscribeEvent
@@ -141,9 +145,8 @@ public class CommonPlayerTickHandler {
 
     public static boolean isGravitationalModulationOn(Player player) {
         if (ModuleGravitationalModulatingUnit.shouldProcess(player)) {
-            ItemStack stack = player.getItemBySlot(EquipmentSlot.CHEST);
-            IModule<ModuleGravitationalModulatingUnit> module = IModuleHelper.INSTANCE.getIfEnabled(stack, MekanismModules.GRAVITATIONAL_MODULATING_UNIT);
-            return module != null && module.hasEnoughEnergy(stack, MekanismConfig.gear.mekaSuitEnergyUsageGravitationalModulation);
+            IModule<ModuleGravitationalModulatingUnit> module = PlayerModuleProfile.get(player).getGravitationalModulation();
+            return module != null && module.hasEnoughEnergy(player.getItemBySlot(EquipmentSlot.CHEST), MekanismConfig.gear.mekaSuitEnergyUsageGravitationalModulation);
         }
         return false;
     }
@@ -255,15 +258,15 @@ public class CommonPlayerTickHandler {
     @SubscribeEvent
     public void onLivingJump(LivingJumpEvent event) {
         if (event.getEntity() instanceof Player player) {
-            ItemStack boots = player.getItemBySlot(EquipmentSlot.FEET);
-            IModule<ModuleHydraulicPropulsionUnit> propulsionModule = IModuleHelper.INSTANCE.getIfEnabled(boots, MekanismModules.HYDRAULIC_PROPULSION_UNIT);
+            PlayerModuleProfile profile = PlayerModuleProfile.get(player);
+            IModule<ModuleHydraulicPropulsionUnit> propulsionModule = profile.getHydraulicPropulsion();
             if (propulsionModule != null && Mekanism.keyMap.has(player.getUUID(), KeySync.BOOST)) {
-                float boost = propulsionModule.getCustomInstance().getBoost();
+                float boost = profile.getJumpBoost();
                 long usage = MathUtils.ceilToLong(MekanismConfig.gear.mekaSuitBaseJumpEnergyUsage.get() * boost / 0.1F);
-                if (propulsionModule.canUseEnergy(player, boots, usage)) {
+                if (propulsionModule.canUseEnergy(player, player.getItemBySlot(EquipmentSlot.FEET), usage)) {
                     // if we're sprinting with the boost module, limit the height
                     ItemStack legs = player.getItemBySlot(EquipmentSlot.LEGS);
-                    IModule<ModuleLocomotiveBoostingUnit> boostModule = IModuleHelper.INSTANCE.getIfEnabled(legs, MekanismModules.LOCOMOTIVE_BOOSTING_UNIT);
+                    IModule<ModuleLocomotiveBoostingUnit> boostModule = profile.getLocomotiveBoosting();
                     if (boostModule != null && boostModule.getCustomInstance().canFunction(boostModule, legs, player)) {
                         boost = Mth.sqrt(boost);
                     }
@@ -324,7 +327,7 @@ public class CommonPlayerTickHandler {
         }
 
         //Gyroscopic stabilization check
-        if (!player.onGround() && IModuleHelper.INSTANCE.isEnabled(player.getItemBySlot(EquipmentSlot.LEGS), MekanismModules.GYROSCOPIC_STABILIZATION_UNIT)) {
+        if (!player.onGround() && PlayerModuleProfile.get(player).hasGyroscopicStabilization()) {
             speed *= 5.0F;
         }
 
@@ -10,9 +10,11 @@ import java.util.Queue;
 import java.util.function.Predicate;
 import mekanism.api.SerializationConstants;
 import mekanism.api.security.IBlockSecurityUtils;
+import mekanism.common.capabilities.heat.AmbientTemperatureLookup;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.integration.computer.ComputerSnapshotManager;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.multiblock.MultiblockManager;
@@ -150,19 +152,25 @@ public class CommonWorldTickHandler {
 
     @SubscribeEvent
     public void chunkUnloadEvent(ChunkEvent.Unload event) {
-        if (event.getLevel() instanceof Level level && !level.isClientSide() && chunkVersions != null) {
-            //When a chunk unloads, free up the memory tracking what version it has
-            chunkVersions.getOrDefault(level.dimension().location(), Object2IntMaps.emptyMap())
-                  .removeInt(event.getChunk().getPos());
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            AmbientTemperatureLookup.onChunkUnload(level, event.getChunk());
+            if (chunkVersions != null) {
+                //When a chunk unloads, free up the memory tracking what version it has
+                chunkVersions.getOrDefault(level.dimension().location(), Object2IntMaps.emptyMap())
+                      .removeInt(event.getChunk().getPos());
+            }
         }
     }
 
     @SubscribeEvent
     public void worldUnloadEvent(LevelEvent.Unload event) {
         LevelAccessor world = event.getLevel();
-        if (!world.isClientSide() && world instanceof Level level && chunkVersions != null) {
-            //When a world unloads, free up memory tracking the versions of the chunks in it
-            chunkVersions.remove(level.dimension().location());
+        if (!world.isClientSide() && world instanceof Level level) {
+            AmbientTemperatureLookup.onLevelUnload(level);
+            if (chunkVersions != null) {
+                //When a world unloads, free up memory tracking the versions of the chunks in it
+                chunkVersions.remove(level.dimension().location());
+            }
         }
     }
 
@@ -181,6 +189,7 @@ public class CommonWorldTickHandler {
         boolean tickingNormally = event.getServer().tickRateManager().runsNormally();
         FrequencyManager.tick(tickingNormally);
         RadiationManager.get().tickServer(tickingNormally);
+        ComputerSnapshotManager.tick();
     }
 
     @SubscribeEvent
@@ -20,6 +20,7 @@ import mekanism.common.base.PlayerState;
 import mekanism.common.base.TagCache;
 import mekanism.common.base.holiday.HolidayManager;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.capabilities.heat.AmbientTemperatureLookup;
 import mekanism.common.command.CommandMek;
 import mekanism.common.command.builders.BuildCommand;
 import mekanism.common.command.builders.Builders.BoilerBuilder;
@@ -28,6 +29,7 @@ import mekanism.common.command.builders.Builders.MatrixBuilder;
 import mekanism.common.command.builders.Builders.SPSBuilder;
 import mekanism.common.command.builders.Builders.TankBuilder;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.assemblicator.CraftingResultCache;
 import mekanism.common.content.boiler.BoilerMultiblockData;
 import mekanism.common.content.boiler.BoilerValidator;
 import mekanism.common.content.evaporation.EvaporationMultiblockData;
@@ -50,6 +52,7 @@ import mekanism.common.content.tank.TankValidator;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.MekanismHooks;
+import mekanism.common.integration.computer.ComputerSnapshotManager;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicCauldronInteraction;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicDrainCauldronInteraction;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispenseBehavior;
@@ -97,6 +100,7 @@ import mekanism.common.registries.MekanismRobitSkins;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tile.component.TileComponentChunkLoader;
+import mekanism.common.tile.component.TileComponentEjector;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.util.RegistryUtils;
 import mekanism.common.world.GenHandler;
@@ -313,6 +317,10 @@ public class Mekanism {
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
+        AmbientTemperatureLookup.reset();
+        ComputerSnapshotManager.reset();
+        CraftingResultCache.reset();
+        TileComponentEjector.logAndResetStatistics();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
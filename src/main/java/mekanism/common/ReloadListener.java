@@ -1,5 +1,6 @@
 package mekanism.common;
 
+import mekanism.common.content.assemblicator.CraftingResultCache;
 import mekanism.common.recipe.MekanismRecipeType;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
@@ -11,5 +12,6 @@ public class ReloadListener implements ResourceManagerReloadListener {
     public void onResourceManagerReload(@NotNull ResourceManager resourceManager) {
         CommonWorldTickHandler.flushTagAndRecipeCaches = true;
         MekanismRecipeType.clearCache();
+        CraftingResultCache.reset();
     }
 }
\ No newline at end of file
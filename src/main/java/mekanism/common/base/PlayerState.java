@@ -10,6 +10,7 @@ import mekanism.client.sound.SoundHandler;
 import mekanism.common.CommonPlayerTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.PlayerModuleProfile;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.player_data.PacketResetPlayerClient;
@@ -42,6 +43,7 @@ public class PlayerState {
         activeJetpacks.clear();
         activeScubaMasks.clear();
         activeGravitationalModulators.clear();
+        PlayerModuleProfile.clear(isRemote);
         if (isRemote) {
             SoundHandler.clearPlayerSounds();
         }
@@ -51,6 +53,7 @@ public class PlayerState {
         activeJetpacks.remove(uuid);
         activeScubaMasks.remove(uuid);
         activeGravitationalModulators.remove(uuid);
+        PlayerModuleProfile.clearPlayer(uuid, isRemote);
         if (isRemote) {
             SoundHandler.clearPlayerSounds(uuid);
             if (Minecraft.getInstance().player == null || Minecraft.getInstance().player.getUUID().equals(uuid)) {
@@ -0,0 +1,87 @@
+package mekanism.common.capabilities.heat;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import mekanism.api.heat.HeatAPI;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Dimension wide cache of biome temperatures, keyed by position. Every heat capable tile, multiblock, and heat network looks up its ambient temperature through this so
+ * that positions that are looked up repeatedly only have to perform the biome lookup once.
+ *
+ * @implNote Temperatures are sampled the same way {@link HeatAPI#getAmbientTemp(net.minecraft.world.level.LevelReader, BlockPos)} does, so the cached value for a
+ * position is always the same as looking it up directly. Only positions that something heat capable has looked up are cached, grouped by chunk so that they can be
+ * dropped again when their chunk unloads. The cache is only accessed from the server thread, and lookups from any other thread bypass it.
+ */
+public class AmbientTemperatureLookup {
+
+    private AmbientTemperatureLookup() {
+    }
+
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Long2DoubleMap>> biomeTemperatures = new HashMap<>();
+
+    public static double getAmbientTemp(@Nullable Level level, BlockPos pos) {
+        if (level == null) {
+            return HeatAPI.AMBIENT_TEMP;
+        }
+        return HeatAPI.getAmbientTemp(getBiomeTemp(level, pos));
+    }
+
+    public static double getBiomeTemp(Level level, BlockPos pos) {
+        if (!isServerThread(level)) {
+            //Don't bother caching on the client, as the only things that need the ambient temperature there are cached by the tile
+            return sample(level, pos);
+        }
+        Long2DoubleMap temperatures = biomeTemperatures.computeIfAbsent(level.dimension(), dim -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(pos), chunk -> {
+                  Long2DoubleMap map = new Long2DoubleOpenHashMap();
+                  map.defaultReturnValue(Double.NaN);
+                  return map;
+              });
+        long position = pos.asLong();
+        double temperature = temperatures.get(position);
+        if (Double.isNaN(temperature)) {
+            temperature = sample(level, pos);
+            temperatures.put(position, temperature);
+        }
+        return temperature;
+    }
+
+    public static void onChunkUnload(Level level, ChunkAccess chunk) {
+        if (isServerThread(level)) {
+            Long2ObjectMap<Long2DoubleMap> chunks = biomeTemperatures.get(level.dimension());
+            if (chunks != null) {
+                chunks.remove(chunk.getPos().toLong());
+            }
+        }
+    }
+
+    public static void onLevelUnload(Level level) {
+        if (isServerThread(level)) {
+            biomeTemperatures.remove(level.dimension());
+        }
+    }
+
+    public static void reset() {
+        biomeTemperatures.clear();
+    }
+
+    private static boolean isServerThread(Level level) {
+        return level instanceof ServerLevel serverLevel && serverLevel.getServer().isSameThread();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static double sample(Level level, BlockPos pos) {
+        return level.getBiome(pos).value().getTemperature(pos);
+    }
+}
@@ -39,7 +39,7 @@ public class CachedAmbientTemperature implements DoubleSupplier {
             if (side != null) {
                 pos = pos.relative(side);
             }
-            return ambientTemperature[index] = HeatAPI.getAmbientTemp(world, pos);
+            return ambientTemperature[index] = AmbientTemperatureLookup.getAmbientTemp(world, pos);
         }
         return biomeAmbientTemp;
     }
@@ -108,7 +108,7 @@ public class Builders {
         }
 
         @Override
-        protected void build(Level world, BlockPos start, boolean empty) {
+        public void build(Level world, BlockPos start, boolean empty) {
             buildPartialFrame(world, start, 1);
             buildWalls(world, start);
             buildInteriorLayers(world, start, 1, 5, Blocks.AIR);
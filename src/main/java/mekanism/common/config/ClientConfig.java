@@ -25,6 +25,7 @@ public class ClientConfig extends BaseMekanismConfig {
 
     public final CachedBooleanValue opaqueTransmitters;
     public final CachedIntValue berRange;
+    public final CachedBooleanValue transporterItemCulling;
 
     public final CachedFloatValue baseSoundVolume;
     public final CachedBooleanValue enablePlayerSounds;
@@ -83,6 +84,8 @@ public class ClientConfig extends BaseMekanismConfig {
               .define("energyColor", 0x3CFE9A));
         berRange = CachedIntValue.wrap(this, MekanismConfigTranslations.CLIENT_BE_RENDER_RANGE.applyToBuilder(builder)
               .defineInRange("berRange", 256, 1, 1_024));
+        transporterItemCulling = CachedBooleanValue.wrap(this, MekanismConfigTranslations.CLIENT_TRANSPORTER_ITEM_CULLING.applyToBuilder(builder)
+              .define("transporterItemCulling", false));
 
         MekanismConfigTranslations.CLIENT_PARTICLE.applyToBuilder(builder).push("particle");
         enableMultiblockFormationParticles = CachedBooleanValue.wrap(this, MekanismConfigTranslations.CLIENT_PARTICLE_MULTIBLOCK_FORMATION.applyToBuilder(builder)
@@ -33,6 +33,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedBooleanValue logPackets;
     public final CachedBooleanValue allowChunkloading;
     public final CachedIntValue blockDeactivationDelay;
+    public final CachedIntValue machineProcessingInterval;
     public final CachedBooleanValue strictUnboxing;
     public final CachedConfigValue<List<? extends String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
@@ -131,6 +132,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("allowChunkloading", true));
         blockDeactivationDelay = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_DEACTIVATION_DELAY.applyToBuilder(builder)
               .defineInRange("blockDeactivationDelay", 3 * SharedConstants.TICKS_PER_SECOND, 0, SharedConstants.TICKS_PER_MINUTE));
+        machineProcessingInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_PROCESSING_INTERVAL.applyToBuilder(builder)
+              .defineInRange("machineProcessingInterval", 1, 1, SharedConstants.TICKS_PER_SECOND));
         aestheticWorldDamage = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_AESTHETIC_DAMAGE.applyToBuilder(builder)
               .define("aestheticWorldDamage", true));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_ALLOY_UPGRADING.applyToBuilder(builder)
@@ -42,6 +42,9 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     CLIENT_OPAQUE_TRANSMITTERS("client.transmitters.opaque", "Opaque Transmitters",
           "If true, renders sides for Universal Cables, Mechanical Pipes, Pressurized Tubes, Logistical Transporters, and Thermodynamic Conductors instead of "
           + "rendering their contents. If transmitters are causing you fps issues, this should hopefully help."),
+    CLIENT_TRANSPORTER_ITEM_CULLING("client.transmitters.transporter_item_culling", "Transporter Item Culling",
+          "If true, limits how many items Logistical Transporters render each frame, and only renders a few items of each type per chunk section for transporters "
+          + "that are far away. If transporters with lots of items in them are causing you fps issues, this may help, at the cost of some items not being rendered."),
     CLIENT_BE_RENDER_RANGE("client.render_range.block_entity", "BE Render Range",
           "Range at which Block Entity Renderer's added by Mekanism can render at, for example the contents of multiblocks. Vanilla defaults the rendering range for "
           + "BERs to 64 for most blocks (for example chests), but uses a range of 256 for blocks like beacons and end gateways. Lowering this will likely increase "
@@ -115,6 +118,10 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
           "How many ticks must pass until a block's active state is synced with the client when the block stops being active. This prevents rapid state changes "
           + "that can cause lag. Note: Mekanism's blocks always sync immediately when they go from inactive to active; this only controls the time it takes to go from "
           + "active to inactive."),
+    GENERAL_PROCESSING_INTERVAL("general.misc.processing_interval", "Machine Processing Interval",
+          "How many ticks basic electric machines that no player is viewing may wait between processing their recipe, before catching up on all the ticks at once. "
+          + "Higher values reduce the per tick cost of machines at the cost of less smooth output. The interval is limited to how many ticks of energy the machine can "
+          + "store, and machines go back to processing every tick if they were unable to process the entire last interval. A value of one disables batching."),
     GENERAL_AESTHETIC_DAMAGE("general.misc.aesthetic_damage", "Aesthetic World Damage", "If enabled, lasers can break blocks and the flamethrower can start fires."),
     GENERAL_ALLOY_UPGRADING("general.misc.alloy_upgrading", "Alloy Transmitter Upgrading",
           "Allow upgrading Universal Cables, Mechanical Pipes, Pressurized Tubes, Logistical Transporters, and Thermodynamic Conductors by right clicking them "
@@ -0,0 +1,187 @@
+package mekanism.common.content.assemblicator;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.recipe.MekanismRecipeType;
+import net.minecraft.core.NonNullList;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.CraftingInput;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Server wide cache of the results of crafting the contents of a crafting grid, keyed by the type of item in each position of the trimmed grid. Results for grids that
+ * are being crafted with a specific recipe, such as one stored in a formula, are cached separately from results found by looking up the recipe.
+ *
+ * @implNote This is only used on the server thread; lookups from the client are not cached. Results of special recipes are never cached, as whether they match and
+ * what they produce may depend on the state of the level. For all other recipes we assume the result only depends on the item types and components in the grid, and
+ * not on how many of each item there are.
+ */
+public class CraftingResultCache {
+
+    /**
+     * Maximum number of results to cache, after which the least recently used result will be evicted, to make sure that grids with lots of different components don't
+     * cause it to grow forever.
+     */
+    private static final int MAX_ENTRIES = 4_096;
+
+    private CraftingResultCache() {
+    }
+
+    private static final Map<GridKey, CraftingResult> results = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GridKey, CraftingResult> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Gets the result of crafting the given input with whatever recipe matches it.
+     *
+     * @param lastRecipe The last recipe that was found for this grid, used to skip looking up special recipes if they still match.
+     */
+    public static CraftingResult getResult(Level level, CraftingInput input, @Nullable RecipeHolder<CraftingRecipe> lastRecipe) {
+        if (input.isEmpty()) {
+            return CraftingResult.EMPTY;
+        } else if (level.isClientSide()) {
+            //Don't bother caching on the client, as it only needs to look up the recipe when the formula in the gui changes
+            return craft(level, input, MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, input, level).orElse(null));
+        }
+        GridKey key = new GridKey(input, null);
+        CraftingResult result = results.get(key);
+        if (result == null) {
+            if (lastRecipe != null && lastRecipe.value().isSpecial() && lastRecipe.value().matches(input, level)) {
+                return craft(level, input, lastRecipe);
+            }
+            result = craft(level, input, MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, input, level).orElse(null));
+            cache(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the result of crafting the given input with a specific recipe.
+     *
+     * @return the result, or {@code null} if the recipe does not match the input.
+     */
+    @Nullable
+    public static CraftingResult getResultWith(Level level, CraftingInput input, RecipeHolder<CraftingRecipe> recipe) {
+        if (level.isClientSide()) {
+            return recipe.value().matches(input, level) ? craft(level, input, recipe) : null;
+        }
+        GridKey key = new GridKey(input, recipe);
+        CraftingResult result = results.get(key);
+        if (result == null) {
+            if (!recipe.value().matches(input, level)) {
+                //Note: We don't cache recipes not matching as there is no real way for a formula to end up trying to craft the same invalid grid repeatedly
+                return null;
+            }
+            result = craft(level, input, recipe);
+            cache(key, result);
+        }
+        return result;
+    }
+
+    public static void reset() {
+        results.clear();
+    }
+
+    private static void cache(GridKey key, CraftingResult result) {
+        if (result.recipe() == null || !result.recipe().value().isSpecial()) {
+            results.put(key.copy(), result);
+        }
+    }
+
+    private static CraftingResult craft(Level level, CraftingInput input, @Nullable RecipeHolder<CraftingRecipe> recipe) {
+        if (recipe == null) {
+            return CraftingResult.EMPTY;
+        }
+        ItemStack output = recipe.value().assemble(input, level.registryAccess());
+        if (output.isEmpty()) {
+            return new CraftingResult(recipe, ItemStack.EMPTY, CraftingResult.EMPTY.remainingItems());
+        }
+        return new CraftingResult(recipe, output, recipe.value().getRemainingItems(input));
+    }
+
+    /**
+     * @param output         Output of the craft. This must not be modified.
+     * @param remainingItems Remaining items of the craft. Neither the list nor the stacks in it may be modified.
+     */
+    public record CraftingResult(@Nullable RecipeHolder<CraftingRecipe> recipe, ItemStack output, NonNullList<ItemStack> remainingItems) {
+
+        public static final CraftingResult EMPTY = new CraftingResult(null, ItemStack.EMPTY, NonNullList.create());
+    }
+
+    private static final class GridKey {
+
+        private final int width;
+        private final int height;
+        private final HashedItem[] items;
+        @Nullable
+        private final RecipeHolder<CraftingRecipe> recipe;
+        private final int hashCode;
+
+        private GridKey(CraftingInput input, @Nullable RecipeHolder<CraftingRecipe> recipe) {
+            this.width = input.width();
+            this.height = input.height();
+            this.recipe = recipe;
+            List<ItemStack> stacks = input.items();
+            this.items = new HashedItem[stacks.size()];
+            for (int i = 0; i < items.length; i++) {
+                ItemStack stack = stacks.get(i);
+                if (!stack.isEmpty()) {
+                    items[i] = HashedItem.raw(stack);
+                }
+            }
+            this.hashCode = Objects.hash(width, height, Arrays.hashCode(items), getRecipeId());
+        }
+
+        private GridKey(GridKey other) {
+            this.width = other.width;
+            this.height = other.height;
+            this.recipe = other.recipe;
+            this.items = new HashedItem[other.items.length];
+            for (int i = 0; i < items.length; i++) {
+                HashedItem item = other.items[i];
+                if (item != null) {
+                    items[i] = item.recreate();
+                }
+            }
+            this.hashCode = other.hashCode;
+        }
+
+        /**
+         * Creates a copy of this key that does not reference the stacks that were in the grid, so that it is safe to store.
+         */
+        private GridKey copy() {
+            return new GridKey(this);
+        }
+
+        @Nullable
+        private ResourceLocation getRecipeId() {
+            return recipe == null ? null : recipe.id();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            return o instanceof GridKey other && width == other.width && height == other.height && Objects.equals(getRecipeId(), other.getRecipeId())
+                   && Arrays.equals(items, other.items);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
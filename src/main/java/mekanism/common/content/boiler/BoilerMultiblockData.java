@@ -9,6 +9,7 @@ import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.SerializationConstants;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
@@ -19,8 +20,10 @@ import mekanism.api.math.MathUtils;
 import mekanism.common.block.attribute.AttributeStateBoilerValveMode.BoilerValveMode;
 import mekanism.common.capabilities.chemical.VariableCapacityChemicalTank;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
+import mekanism.common.capabilities.heat.AmbientTemperatureLookup;
 import mekanism.common.capabilities.heat.VariableHeatCapacitor;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.listener.ConfigBasedCachedSupplier;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerChemicalTankWrapper;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerFluidTankWrapper;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerHeatCapacitorWrapper;
@@ -46,6 +49,7 @@ import net.minecraft.nbt.NbtUtils;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 
 public class BoilerMultiblockData extends MultiblockData implements IValveHandler {
 
@@ -56,6 +60,11 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
     private static final double CASING_INVERSE_CONDUCTION_COEFFICIENT = 1;
 
     private static final double COOLANT_COOLING_EFFICIENCY = 0.4;
+    /**
+     * Token that is replaced whenever one of the config values the heat transfer depends on changes, so that boilers know they have to simulate it again.
+     */
+    private static final ConfigBasedCachedSupplier<Object> HEAT_TRANSFER_CONFIG = new ConfigBasedCachedSupplier<>(Object::new,
+          MekanismConfig.general.boilerWaterConductivity, MekanismConfig.general.superheatingHeatTransfer, MekanismConfig.general.maxEnergyPerSteam);
 
     private final List<AdvancedCapabilityOutputTarget<IChemicalHandler, BoilerValveMode>> chemicalOutputTargets = new ArrayList<>();
     private final List<IChemicalTank> inputTanks;
@@ -110,10 +119,18 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
     public float prevWaterScale;
     public float prevSteamScale;
 
+    /**
+     * The last heat transfer that was simulated, which gets replayed for as long as the boiler is in the same state.
+     *
+     * @implNote The rest of the inputs are the structure of the boiler, which only changes when it is reformed into a new instance.
+     */
+    @Nullable
+    private HeatTransferResult lastHeatTransfer;
+
     public BoilerMultiblockData(TileEntityBoilerCasing tile) {
         super(tile);
         //Default biome temp to the ambient temperature at the block we are at
-        biomeAmbientTemp = HeatAPI.getAmbientTemp(tile.getLevel(), tile.getBlockPos());
+        biomeAmbientTemp = AmbientTemperatureLookup.getAmbientTemp(tile.getLevel(), tile.getBlockPos());
         superheatedCoolantTank = VariableCapacityChemicalTank.input(this, () -> superheatedCoolantCapacity, chemical -> chemical.has(HeatedCoolant.class), this);
         waterTank = VariableCapacityFluidTank.input(this, () -> waterTankCapacity, fluid -> fluid.is(FluidTags.WATER),
               createSaveAndComparator());
@@ -151,28 +168,22 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         lastEnvironmentLoss = simulateEnvironment();
         // update temperature
         updateHeatCapacitors(null);
+        HeatTransferResult transfer = lastHeatTransfer;
+        if (transfer == null || !transfer.isFor(this)) {
+            //Note: While the boiler is in a steady state, it is in the same state every tick after updating its heat, so we can replay the last result
+            lastHeatTransfer = transfer = simulateHeatTransfer();
+        }
         // handle coolant heat transfer
-        if (!superheatedCoolantTank.isEmpty()) {
-            HeatedCoolant coolantType = superheatedCoolantTank.getStack().get(HeatedCoolant.class);
-            if (coolantType != null) {
-                long toCool = Math.round(BoilerMultiblockData.COOLANT_COOLING_EFFICIENCY * superheatedCoolantTank.getStored());
-                toCool = MathUtils.clampToLong(toCool * (1 - heatCapacitor.getTemperature() / HeatUtils.HEATED_COOLANT_TEMP));
-                ChemicalStack cooledCoolant = coolantType.getCooledChemical().getStack(toCool);
-                toCool = Math.min(toCool, toCool - cooledCoolantTank.insert(cooledCoolant, Action.EXECUTE, AutomationType.INTERNAL).getAmount());
-                if (toCool > 0) {
-                    double heatEnergy = toCool * coolantType.getThermalEnthalpy();
-                    heatCapacitor.handleHeat(heatEnergy);
-                    superheatedCoolantTank.shrinkStack(toCool, Action.EXECUTE);
-                }
-            }
+        if (transfer.coolantCooled() > 0) {
+            cooledCoolantTank.insert(transfer.cooledCoolant(), Action.EXECUTE, AutomationType.INTERNAL);
+            heatCapacitor.handleHeat(transfer.coolantHeat());
+            superheatedCoolantTank.shrinkStack(transfer.coolantCooled(), Action.EXECUTE);
         }
         // handle water heat transfer
-        if (getTotalTemperature() >= HeatUtils.BASE_BOIL_TEMP && !waterTank.isEmpty()) {
-            double heatAvailable = getHeatAvailable();
-            lastMaxBoil = Mth.floor(HeatUtils.getSteamEnergyEfficiency() * heatAvailable / HeatUtils.getWaterThermalEnthalpy());
-
-            int amountToBoil = Math.min(lastMaxBoil, waterTank.getFluidAmount());
-            amountToBoil = Math.min(amountToBoil, MathUtils.clampToInt(steamTank.getNeeded()));
+        lastMaxBoil = transfer.maxBoil();
+        lastBoilRate = transfer.boiled();
+        if (transfer.boiling()) {
+            int amountToBoil = transfer.boiled();
             if (!waterTank.isEmpty()) {
                 waterTank.shrinkStack(amountToBoil, Action.EXECUTE);
             }
@@ -181,12 +192,7 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
             } else {
                 steamTank.growStack(amountToBoil, Action.EXECUTE);
             }
-
-            heatCapacitor.handleHeat(-amountToBoil * HeatUtils.getWaterThermalEnthalpy() / HeatUtils.getSteamEnergyEfficiency());
-            lastBoilRate = amountToBoil;
-        } else {
-            lastBoilRate = 0;
-            lastMaxBoil = 0;
+            heatCapacitor.handleHeat(transfer.boilHeat());
         }
         if (!chemicalOutputTargets.isEmpty()) {
             if (!steamTank.isEmpty()) {
@@ -209,6 +215,39 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         return needsPacket;
     }
 
+    /**
+     * Calculates how much coolant the boiler would cool and how much water it would boil this tick, without applying any of it.
+     *
+     * @implNote As any heat that is handled is only applied when the heat capacitors are next updated, cooling the coolant doesn't affect how much water gets boiled.
+     */
+    private HeatTransferResult simulateHeatTransfer() {
+        ChemicalStack cooledCoolant = ChemicalStack.EMPTY;
+        long coolantCooled = 0;
+        double coolantHeat = 0;
+        if (!superheatedCoolantTank.isEmpty()) {
+            HeatedCoolant coolantType = superheatedCoolantTank.getStack().get(HeatedCoolant.class);
+            if (coolantType != null) {
+                long toCool = Math.round(BoilerMultiblockData.COOLANT_COOLING_EFFICIENCY * superheatedCoolantTank.getStored());
+                toCool = MathUtils.clampToLong(toCool * (1 - heatCapacitor.getTemperature() / HeatUtils.HEATED_COOLANT_TEMP));
+                ChemicalStack toInsert = coolantType.getCooledChemical().getStack(toCool);
+                toCool = Math.min(toCool, toCool - cooledCoolantTank.insert(toInsert, Action.SIMULATE, AutomationType.INTERNAL).getAmount());
+                if (toCool > 0) {
+                    cooledCoolant = toInsert.copyWithAmount(toCool);
+                    coolantCooled = toCool;
+                    coolantHeat = toCool * coolantType.getThermalEnthalpy();
+                }
+            }
+        }
+        if (getTotalTemperature() >= HeatUtils.BASE_BOIL_TEMP && !waterTank.isEmpty()) {
+            int maxBoil = Mth.floor(HeatUtils.getSteamEnergyEfficiency() * getHeatAvailable() / HeatUtils.getWaterThermalEnthalpy());
+            int amountToBoil = Math.min(maxBoil, waterTank.getFluidAmount());
+            amountToBoil = Math.min(amountToBoil, MathUtils.clampToInt(steamTank.getNeeded()));
+            return new HeatTransferResult(this, cooledCoolant, coolantCooled, coolantHeat, true, maxBoil, amountToBoil,
+                  -amountToBoil * HeatUtils.getWaterThermalEnthalpy() / HeatUtils.getSteamEnergyEfficiency());
+        }
+        return new HeatTransferResult(this, cooledCoolant, coolantCooled, coolantHeat, false, 0, 0, 0);
+    }
+
     @Override
     protected void updateEjectors(Level world) {
         chemicalOutputTargets.clear();
@@ -301,4 +340,25 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         double boilCapacity = MekanismConfig.general.superheatingHeatTransfer.get() * superheatingElements / HeatUtils.getWaterThermalEnthalpy();
         return MathUtils.clampToLong(boilCapacity * HeatUtils.getSteamEnergyEfficiency());
     }
+
+    /**
+     * Result of simulating the heat transfer of the boiler for a single tick, along with the state of the boiler it was simulated for.
+     */
+    private record HeatTransferResult(double heat, Chemical superheatedCoolant, long superheatedStored, Chemical storedCooledCoolant, long cooledStored, int water,
+                                      long steam, Object config, ChemicalStack cooledCoolant, long coolantCooled, double coolantHeat, boolean boiling, int maxBoil,
+                                      int boiled, double boilHeat) {
+
+        private HeatTransferResult(BoilerMultiblockData boiler, ChemicalStack cooledCoolant, long coolantCooled, double coolantHeat, boolean boiling, int maxBoil,
+              int boiled, double boilHeat) {
+            this(boiler.heatCapacitor.getHeat(), boiler.superheatedCoolantTank.getType(), boiler.superheatedCoolantTank.getStored(),
+                  boiler.cooledCoolantTank.getType(), boiler.cooledCoolantTank.getStored(), boiler.waterTank.getFluidAmount(), boiler.steamTank.getStored(),
+                  HEAT_TRANSFER_CONFIG.get(), cooledCoolant, coolantCooled, coolantHeat, boiling, maxBoil, boiled, boilHeat);
+        }
+
+        private boolean isFor(BoilerMultiblockData boiler) {
+            return heat == boiler.heatCapacitor.getHeat() && superheatedStored == boiler.superheatedCoolantTank.getStored() && water == boiler.waterTank.getFluidAmount()
+                   && steam == boiler.steamTank.getStored() && cooledStored == boiler.cooledCoolantTank.getStored() && config == HEAT_TRANSFER_CONFIG.get()
+                   && superheatedCoolant == boiler.superheatedCoolantTank.getType() && storedCooledCoolant == boiler.cooledCoolantTank.getType();
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package mekanism.common.content.gear;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.api.gear.IModule;
+import mekanism.api.gear.IModuleContainer;
+import mekanism.api.gear.IModuleHelper;
+import mekanism.common.content.gear.mekasuit.ModuleGravitationalModulatingUnit;
+import mekanism.common.content.gear.mekasuit.ModuleHydraulicPropulsionUnit;
+import mekanism.common.content.gear.mekasuit.ModuleLocomotiveBoostingUnit;
+import mekanism.common.registries.MekanismModules;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Flattened view of the modules a player has installed and enabled in the MekaSuit pieces that the player event handlers care about, so that the handlers don't have to
+ * look up the modules in the module containers every time they are called.
+ *
+ * @implNote As module containers are immutable data components, any change to the installed modules or their configs results in a new container being stored on the
+ * stack. This allows us to detect when a piece's part of the profile needs to be recompiled by checking if the container on the stack is still the one it was compiled
+ * from. Energy is not part of the profile, as it changes far too often, and is still checked against the stack when it matters. Profiles are only refreshed at the start
+ * of each player tick, so changes to a player's armor during a tick are picked up the following tick. Each side's profiles are only accessed from that side's main
+ * thread.
+ */
+public class PlayerModuleProfile {
+
+    private static final PlayerModuleProfile EMPTY = new PlayerModuleProfile();
+    private static final Map<UUID, PlayerModuleProfile> serverProfiles = new HashMap<>();
+    private static final Map<UUID, PlayerModuleProfile> clientProfiles = new HashMap<>();
+
+    /**
+     * Gets the module profile for the given player, as of the start of the player's current tick.
+     */
+    public static PlayerModuleProfile get(Player player) {
+        return getProfiles(player).getOrDefault(player.getUUID(), EMPTY);
+    }
+
+    /**
+     * Updates the module profile for the given player if the player's armor has changed since it was last compiled.
+     */
+    public static void refresh(Player player) {
+        getProfiles(player).computeIfAbsent(player.getUUID(), uuid -> new PlayerModuleProfile()).update(player);
+    }
+
+    private static Map<UUID, PlayerModuleProfile> getProfiles(Player player) {
+        return player.level().isClientSide() ? clientProfiles : serverProfiles;
+    }
+
+    public static void clear(boolean isRemote) {
+        (isRemote ? clientProfiles : serverProfiles).clear();
+    }
+
+    public static void clearPlayer(UUID uuid, boolean isRemote) {
+        (isRemote ? clientProfiles : serverProfiles).remove(uuid);
+    }
+
+    //Note: These are the containers the profile was compiled from, and are compared by identity
+    @Nullable
+    private IModuleContainer chestContainer;
+    @Nullable
+    private IModuleContainer legsContainer;
+    @Nullable
+    private IModuleContainer feetContainer;
+
+    @Nullable
+    private IModule<ModuleGravitationalModulatingUnit> gravitationalModulation;
+    @Nullable
+    private IModule<ModuleLocomotiveBoostingUnit> locomotiveBoosting;
+    private boolean gyroscopicStabilization;
+    @Nullable
+    private IModule<ModuleHydraulicPropulsionUnit> hydraulicPropulsion;
+    private float stepHeight;
+    private float jumpBoost;
+
+    private PlayerModuleProfile() {
+    }
+
+    private void update(Player player) {
+        IModuleContainer chest = IModuleHelper.INSTANCE.getModuleContainer(player.getItemBySlot(EquipmentSlot.CHEST));
+        if (chest != chestContainer) {
+            chestContainer = chest;
+            gravitationalModulation = chest == null ? null : chest.getIfEnabled(MekanismModules.GRAVITATIONAL_MODULATING_UNIT);
+        }
+        IModuleContainer legs = IModuleHelper.INSTANCE.getModuleContainer(player.getItemBySlot(EquipmentSlot.LEGS));
+        if (legs != legsContainer) {
+            legsContainer = legs;
+            locomotiveBoosting = legs == null ? null : legs.getIfEnabled(MekanismModules.LOCOMOTIVE_BOOSTING_UNIT);
+            gyroscopicStabilization = legs != null && legs.hasEnabled(MekanismModules.GYROSCOPIC_STABILIZATION_UNIT);
+        }
+        IModuleContainer feet = IModuleHelper.INSTANCE.getModuleContainer(player.getItemBySlot(EquipmentSlot.FEET));
+        if (feet != feetContainer) {
+            feetContainer = feet;
+            hydraulicPropulsion = feet == null ? null : feet.getIfEnabled(MekanismModules.HYDRAULIC_PROPULSION_UNIT);
+            if (hydraulicPropulsion == null) {
+                stepHeight = 0;
+                jumpBoost = 0;
+            } else {
+                stepHeight = hydraulicPropulsion.getCustomInstance().getStepHeight();
+                jumpBoost = hydraulicPropulsion.getCustomInstance().getBoost();
+            }
+        }
+    }
+
+    /**
+     * {@return the enabled gravitational modulating unit installed in the chest piece, or null if there isn't one}
+     */
+    @Nullable
+    public IModule<ModuleGravitationalModulatingUnit> getGravitationalModulation() {
+        return gravitationalModulation;
+    }
+
+    /**
+     * {@return the enabled locomotive boosting unit installed in the leggings, or null if there isn't one}
+     */
+    @Nullable
+    public IModule<ModuleLocomotiveBoostingUnit> getLocomotiveBoosting() {
+        return locomotiveBoosting;
+    }
+
+    public boolean hasGyroscopicStabilization() {
+        return gyroscopicStabilization;
+    }
+
+    /**
+     * {@return the enabled hydraulic propulsion unit installed in the boots, or null if there isn't one}
+     */
+    @Nullable
+    public IModule<ModuleHydraulicPropulsionUnit> getHydraulicPropulsion() {
+        return hydraulicPropulsion;
+    }
+
+    /**
+     * {@return the step height provided by the boots' hydraulic propulsion unit, or zero if there isn't an enabled one}
+     */
+    public float getStepHeight() {
+        return stepHeight;
+    }
+
+    /**
+     * {@return the jump boost provided by the boots' hydraulic propulsion unit, or zero if there isn't an enabled one}
+     */
+    public float getJumpBoost() {
+        return jumpBoost;
+    }
+}
@@ -3,11 +3,16 @@ package mekanism.common.content.gear.mekatool;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayFIFOQueue;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -55,6 +60,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -133,45 +139,67 @@ public record ModuleVeinMiningUnit(boolean extended, ExcavationRange excavationR
         return !(state.getBlock() instanceof BlockBounding);
     }
 
+    /**
+     * Finds the positions that should be vein mined, and how far from the initial positions they are.
+     *
+     * @implNote The search keeps track of the positions it has visited as packed longs, and caches the chunks it has looked up, as large veins and extended mode can
+     * cause thousands of positions to be checked from a single swing.
+     */
     public static Object2IntMap<BlockPos> findPositions(Level world, Map<BlockPos, BlockState> initial, int extendedRange, Reference2BooleanMap<Block> oreTracker) {
         Object2IntMap<BlockPos> found = new Object2IntLinkedOpenHashMap<>();
 
         int maxVein = MekanismConfig.gear.disassemblerMiningCount.get();
         int maxCount = initial.size() + maxVein * oreTracker.size();
 
-        Map<BlockPos, BlockState> frontier = new LinkedHashMap<>(initial);
-        TraversalDistance dist = new TraversalDistance(frontier.size());
+        //Note: The frontier is stored as parallel queues of the position, the block we are following, and the distance from the initial positions
+        LongArrayFIFOQueue frontier = new LongArrayFIFOQueue(initial.size());
+        ObjectArrayFIFOQueue<Block> frontierBlocks = new ObjectArrayFIFOQueue<>(initial.size());
+        IntArrayFIFOQueue frontierDistances = new IntArrayFIFOQueue(initial.size());
+        //Positions that are either in the frontier or have been found
+        LongSet visited = new LongOpenHashSet();
+        for (Entry<BlockPos, BlockState> entry : initial.entrySet()) {
+            long initialPos = entry.getKey().asLong();
+            if (visited.add(initialPos)) {
+                frontier.enqueue(initialPos);
+                frontierBlocks.enqueue(entry.getValue().getBlock());
+                frontierDistances.enqueue(0);
+            }
+        }
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        BlockPos.MutableBlockPos nextPos = new BlockPos.MutableBlockPos();
         while (!frontier.isEmpty()) {
-            Iterator<Entry<BlockPos, BlockState>> iterator = frontier.entrySet().iterator();
-            Entry<BlockPos, BlockState> blockEntry = iterator.next();
-            iterator.remove();
-
-            BlockPos blockPos = blockEntry.getKey();
-            found.put(blockPos, dist.getDistance());
+            BlockPos blockPos = BlockPos.of(frontier.dequeueLong());
+            Block block = frontierBlocks.dequeue();
+            int distance = frontierDistances.dequeueInt();
+            found.put(blockPos, distance);
             if (found.size() >= maxCount) {
                 break;
             }
 
-            Block block = blockEntry.getValue().getBlock();
-            boolean isOre = oreTracker.getBoolean(block);
             //If it is extended or should be treated as an ore
-            if (isOre || extendedRange > dist.getDistance()) {
-                for (BlockPos nextPos : BlockPos.betweenClosed(blockPos.offset(-1, -1, -1), blockPos.offset(1, 1, 1))) {
-                    //We can check contains as mutable
-                    if (!found.containsKey(nextPos) && !frontier.containsKey(nextPos)) {
-                        Optional<BlockState> nextState = WorldUtils.getBlockState(world, nextPos);
-                        if (nextState.isPresent() && nextState.get().is(block)) {
-                            //Make sure to add it as immutable
-                            frontier.put(nextPos.immutable(), nextState.get());
-                            //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
-                            // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
-                            PacketUtils.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(blockPos, nextPos),
-                                  blockPos.getCenter(), nextPos.getCenter(), 10), world, blockPos);
+            if (oreTracker.getBoolean(block) || extendedRange > distance) {
+                for (int x = -1; x <= 1; x++) {
+                    for (int y = -1; y <= 1; y++) {
+                        for (int z = -1; z <= 1; z++) {
+                            nextPos.setWithOffset(blockPos, x, y, z);
+                            long next = nextPos.asLong();
+                            if (!visited.contains(next)) {
+                                Optional<BlockState> nextState = WorldUtils.getBlockState(world, chunkMap, nextPos);
+                                if (nextState.isPresent() && nextState.get().is(block)) {
+                                    visited.add(next);
+                                    frontier.enqueue(next);
+                                    frontierBlocks.enqueue(block);
+                                    frontierDistances.enqueue(distance + 1);
+                                    //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
+                                    // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
+                                    PacketUtils.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(blockPos, nextPos),
+                                          blockPos.getCenter(), nextPos.getCenter(), 10), world, blockPos);
+                                }
+                            }
                         }
                     }
                 }
             }
-            dist.updateDistance(found.size(), frontier.size());
         }
         return found;
     }
@@ -223,31 +251,6 @@ public record ModuleVeinMiningUnit(boolean extended, ExcavationRange excavationR
         }
     }
 
-    // Helper class to help calculate the breadth first traversal path distance
-    private static class TraversalDistance {
-
-        // Start at distance 0
-        private int distance = 0;
-        private int next;
-
-        // Initialize with the number of elements at distance 0
-        public TraversalDistance(int next) {
-            this.next = next;
-        }
-
-        // When all elements at distance 0 are found, determine how many elements there are with distance 1 and increment distance
-        public void updateDistance(int found, int frontierSize) {
-            if (found == next) {
-                distance++;
-                next += frontierSize;
-            }
-        }
-
-        public int getDistance() {
-            return distance;
-        }
-    }
-
     @NothingNullByDefault
     public static class ModuleExtendedModeConfig extends ModuleBooleanConfig {
 
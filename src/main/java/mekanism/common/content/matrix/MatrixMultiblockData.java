@@ -132,27 +132,27 @@ public class MatrixMultiblockData extends MultiblockData {
         return isRemote() ? clientMaxEnergy : energyContainer.getMaxEnergy();
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public long getTransferCap() {
         return isRemote() ? clientMaxTransfer : energyContainer.getMaxTransfer();
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public long getLastInput() {
         return isRemote() ? clientLastInput : energyContainer.getLastInput();
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public long getLastOutput() {
         return isRemote() ? clientLastOutput : energyContainer.getLastOutput();
     }
 
-    @ComputerMethod(nameOverride = "getInstalledCells")
+    @ComputerMethod(nameOverride = "getInstalledCells", snapshot = true)
     public int getCellCount() {
         return isRemote() ? clientCells : energyContainer.getCells();
     }
 
-    @ComputerMethod(nameOverride = "getInstalledProviders")
+    @ComputerMethod(nameOverride = "getInstalledProviders", snapshot = true)
     public int getProviderCount() {
         return isRemote() ? clientProviders : energyContainer.getProviders();
     }
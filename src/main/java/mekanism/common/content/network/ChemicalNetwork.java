@@ -21,6 +21,7 @@ import mekanism.common.content.network.distribution.ChemicalTransmitterSaveTarge
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.PressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.SaturatedAcceptors;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
@@ -168,14 +169,22 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
     private long tickEmit(@NotNull ChemicalStack stack) {
         Collection<Map<Direction, IChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
         ChemicalHandlerTarget target = null;
+        SaturatedAcceptors<IChemicalHandler> saturatedAcceptors = acceptorCache.getSaturatedAcceptors();
+        saturatedAcceptors.startEmit();
         for (Map<Direction, IChemicalHandler> acceptors : acceptorValues) {
             for (IChemicalHandler handler : acceptors.values()) {
+                if (saturatedAcceptors.isSkipped(handler)) {
+                    continue;
+                }
                 if (ChemicalUtil.canInsert(handler, stack)) {
+                    saturatedAcceptors.accepted(handler);
                     if (target == null) {
                         //Lazily initialize the target, which allows us to also skip attempting to start emitting
                         target = new ChemicalHandlerTarget(acceptorValues.size() * 2);
                     }
                     target.addHandler(handler);
+                } else {
+                    saturatedAcceptors.refused(handler);
                 }
             }
         }
@@ -261,6 +270,8 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
             //If the chemical type does not match update it, and mark that we need an update
             if (!type.isEmptyType()) {
                 lastChemical = type;
+                //Acceptors that refused the previous chemical may accept the new one
+                acceptorCache.getSaturatedAcceptors().clear();
             }
             needsUpdate = true;
         }
@@ -1,5 +1,8 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.longs.Long2IntArrayMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -15,7 +18,6 @@ import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
-import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
@@ -99,10 +101,48 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     protected void updateSaveShares(@Nullable UniversalCable triggerTransmitter) {
         super.updateSaveShares(triggerTransmitter);
         if (!isEmpty()) {
-            EnergyTransmitterSaveTarget saveTarget = new EnergyTransmitterSaveTarget(getTransmitters());
-            long energy = energyContainer.getEnergy();
-            EmitUtils.sendToAcceptors(saveTarget, energy, ENERGY);
-            saveTarget.save();
+            Collection<UniversalCable> transmitters = getTransmitters();
+            //Note: Cables of the same tier all have the same capacity, so rather than running a full distribution across every cable we split the energy
+            // evenly between the few distinct capacities, filling the smallest ones first if an even split would overfill them
+            Long2IntMap capacityCounts = new Long2IntArrayMap();
+            for (UniversalCable transmitter : transmitters) {
+                capacityCounts.mergeInt(transmitter.getCapacity(), 1, Integer::sum);
+            }
+            long[] capacities = capacityCounts.keySet().toLongArray();
+            Arrays.sort(capacities);
+            long remaining = energyContainer.getEnergy();
+            int cablesLeft = transmitters.size();
+            long filledCapacity = -1;
+            long share = 0;
+            long remainder = 0;
+            for (long capacity : capacities) {
+                long split = remaining / cablesLeft;
+                if (split < capacity) {
+                    share = split;
+                    remainder = remaining % cablesLeft;
+                    break;
+                }
+                int count = capacityCounts.get(capacity);
+                remaining -= capacity * count;
+                cablesLeft -= count;
+                filledCapacity = capacity;
+            }
+            for (UniversalCable transmitter : transmitters) {
+                long capacity = transmitter.getCapacity();
+                long stored;
+                if (capacity <= filledCapacity) {
+                    stored = capacity;
+                } else if (remainder > 0) {
+                    stored = share + 1;
+                    remainder--;
+                } else {
+                    stored = share;
+                }
+                if (transmitter.lastWrite != stored) {
+                    transmitter.lastWrite = stored;
+                    transmitter.getTransmitterTile().markForSave();
+                }
+            }
         }
     }
 
@@ -17,6 +17,7 @@ import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.SaturatedAcceptors;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
@@ -152,14 +153,22 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     private int tickEmit(@NotNull FluidStack fluidToSend) {
         Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
         FluidHandlerTarget target = null;
+        SaturatedAcceptors<IFluidHandler> saturatedAcceptors = acceptorCache.getSaturatedAcceptors();
+        saturatedAcceptors.startEmit();
         for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
             for (IFluidHandler acceptor : acceptors.values()) {
+                if (saturatedAcceptors.isSkipped(acceptor)) {
+                    continue;
+                }
                 if (FluidUtils.canFill(acceptor, fluidToSend)) {
+                    saturatedAcceptors.accepted(acceptor);
                     if (target == null) {
                         //Lazily initialize the target, which allows us to also skip attempting to start emitting
                         target = new FluidHandlerTarget(acceptorValues.size() * 2);
                     }
                     target.addHandler(acceptor);
+                } else {
+                    saturatedAcceptors.refused(acceptor);
                 }
             }
         }
@@ -245,6 +254,8 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
             //If the fluid type does not match update it, and mark that we need an update
             if (!type.isEmpty()) {
                 lastFluid = type.copyWithAmount(1);
+                //Acceptors that refused the previous fluid may accept the new one
+                acceptorCache.getSaturatedAcceptors().clear();
             }
             needsUpdate = true;
         }
@@ -1,23 +1,33 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
-import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
+import mekanism.common.capabilities.heat.VariableHeatCapacitor;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    @Nullable
+    private ConductorGrid grid;
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -47,22 +57,49 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
-        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : getTransmitters()) {
-            HeatTransfer transfer = transmitter.simulate();
-            newHeatTransferred += transfer.adjacentTransfer();
-            newHeatLost += transfer.environmentTransfer();
+        if (grid == null || !grid.isValid()) {
+            grid = new ConductorGrid(this);
         }
-        //After we updated the heat values of all the transmitters, we need to update the temperatures
-        // we do this after instead of when iterating initially so that if heat is transferred from one
-        // conductor to one we already updated then we want it to have the proper total temperature
-        for (ThermodynamicConductor transmitter : getTransmitters()) {
-            transmitter.updateHeatCapacitors(null);
-            newSumTemp += transmitter.getTotalTemperature();
-        }
-        heatLost = newHeatLost;
-        heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmittersSize();
+        grid.simulate();
+        heatLost = grid.heatLost;
+        heatTransferred = grid.heatTransferred;
+        meanTemp = grid.sumTemp / grid.conductors.length;
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(ThermodynamicConductor transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        grid = null;
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        super.addTransmitter(transmitter);
+        grid = null;
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        super.removeTransmitter(transmitter);
+        grid = null;
+    }
+
+    @Override
+    protected void removeInvalid(@Nullable ThermodynamicConductor triggerTransmitter) {
+        super.removeInvalid(triggerTransmitter);
+        grid = null;
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        grid = null;
+    }
+
+    @Override
+    public List<ThermodynamicConductor> adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        grid = null;
+        return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
     @Override
@@ -75,4 +112,141 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     public Component getTextComponent() {
         return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.HEAT_NETWORK, transmittersSize(), getAcceptorCount());
     }
-}
\ No newline at end of file
+
+    /**
+     * Flattened form of the conductors in a network, and which of them are adjacent to each other, so that heat can be conducted between them without having to look up
+     * each conductor's neighbors through capabilities every tick.
+     *
+     * @implNote This follows the same model as {@link ThermodynamicConductor#simulate()} followed by {@link ThermodynamicConductor#updateHeatCapacitors(Direction)}:
+     * every transfer is based on the temperatures from before this tick's transfers, and the heat is then applied to the conductors' capacitors once all transfers have
+     * been calculated. The only difference is that the heat each conductor gains and loses is summed before being handed to its capacitor.
+     */
+    private static class ConductorGrid {
+
+        private static final int NO_CONNECTION = -1;
+        private static final int ACCEPTOR = -2;
+        private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+        private final ThermodynamicConductor[] conductors;
+        private final byte[] connections;
+        //Indexed by conductor * SIDES + side
+        private final int[] neighbors;
+        private final double[] ambientTemperatures;
+        private final double[] temperatures;
+        private final double[] heatCapacities;
+        private final double[] inverseConductions;
+        private final double[] inverseInsulations;
+        private final double[] heatToHandle;
+        private double sumTemp;
+        private double heatLost;
+        private double heatTransferred;
+
+        private ConductorGrid(HeatNetwork network) {
+            Collection<ThermodynamicConductor> transmitters = network.getTransmitters();
+            int size = transmitters.size();
+            conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+            connections = new byte[size];
+            neighbors = new int[size * SIDES];
+            ambientTemperatures = new double[size * SIDES];
+            temperatures = new double[size];
+            heatCapacities = new double[size];
+            inverseConductions = new double[size];
+            inverseInsulations = new double[size];
+            heatToHandle = new double[size];
+            Object2IntMap<ThermodynamicConductor> indices = new Object2IntOpenHashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                indices.put(conductors[i], i);
+            }
+            for (int i = 0; i < size; i++) {
+                ThermodynamicConductor conductor = conductors[i];
+                byte currentConnections = conductor.getAllCurrentConnections();
+                connections[i] = currentConnections;
+                BlockPos pos = conductor.getBlockPos();
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    int index = i * SIDES + side.ordinal();
+                    ambientTemperatures[index] = conductor.getAmbientTemperature(side);
+                    if (Transmitter.connectionMapContainsSide(currentConnections, side)) {
+                        ThermodynamicConductor adjacent = network.getTransmitter(pos.relative(side));
+                        neighbors[index] = adjacent == null ? ACCEPTOR : indices.getOrDefault(adjacent, ACCEPTOR);
+                    } else {
+                        neighbors[index] = NO_CONNECTION;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Checks that none of the conductors have changed which sides they are connected on since the grid was created.
+         */
+        private boolean isValid() {
+            for (int i = 0; i < conductors.length; i++) {
+                if (conductors[i].getAllCurrentConnections() != connections[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void simulate() {
+            for (int i = 0; i < conductors.length; i++) {
+                VariableHeatCapacitor buffer = conductors[i].buffer;
+                temperatures[i] = buffer.getTemperature();
+                heatCapacities[i] = buffer.getHeatCapacity();
+                inverseConductions[i] = buffer.getInverseConduction();
+                inverseInsulations[i] = buffer.getInverseInsulation();
+            }
+            double newHeatLost = 0, newHeatTransferred = 0;
+            for (int i = 0; i < conductors.length; i++) {
+                double temperature = temperatures[i];
+                double heatCapacity = heatCapacities[i];
+                double inverseConduction = inverseConductions[i];
+                double environmentInverseConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + inverseInsulations[i] + inverseConduction;
+                double heat = 0;
+                for (int side = 0, index = i * SIDES; side < SIDES; side++, index++) {
+                    double tempDifference = temperature - ambientTemperatures[index];
+                    int neighbor = neighbors[index];
+                    if (neighbor >= 0) {
+                        double tempToTransfer = tempDifference / (inverseConductions[neighbor] + inverseConduction);
+                        double heatToTransfer = tempToTransfer * heatCapacity;
+                        heat -= heatToTransfer;
+                        heatToHandle[neighbor] += heatToTransfer;
+                        if (tempToTransfer <= 0) {
+                            //Note: Transfers between conductors don't count as adjacent transfers, unless they aren't positive to match ThermodynamicConductor#incrementAdjacentTransfer
+                            newHeatTransferred += tempToTransfer;
+                        }
+                    } else if (neighbor == ACCEPTOR) {
+                        IHeatHandler sink = conductors[i].getAdjacent(EnumUtils.DIRECTIONS[side]);
+                        if (sink != null) {
+                            double tempToTransfer = tempDifference / (sink.getTotalInverseConduction() + inverseConduction);
+                            double heatToTransfer = tempToTransfer * heatCapacity;
+                            heat -= heatToTransfer;
+                            //Note: Our sinks in mek are "lazy" but they will update the next tick if needed
+                            sink.handleHeat(heatToTransfer);
+                            newHeatTransferred += tempToTransfer;
+                        }
+                    }
+                    //Transfer heat to the environment
+                    double tempToTransfer = tempDifference / environmentInverseConduction;
+                    heat -= tempToTransfer * heatCapacity;
+                    if (tempToTransfer > 0) {
+                        //Only count it towards environmental loss if it is hotter than the ambient temperature
+                        newHeatLost += tempToTransfer;
+                    }
+                }
+                heatToHandle[i] += heat;
+            }
+            //After we calculated the heat transfers of all the conductors, we apply them and update the temperatures
+            double newSumTemp = 0;
+            for (int i = 0; i < conductors.length; i++) {
+                ThermodynamicConductor conductor = conductors[i];
+                conductor.buffer.handleHeat(heatToHandle[i]);
+                heatToHandle[i] = 0;
+                conductor.updateHeatCapacitors(null);
+                newSumTemp += conductor.getTotalTemperature();
+            }
+            sumTemp = newSumTemp;
+            heatLost = newHeatLost;
+            heatTransferred = newHeatTransferred;
+        }
+    }
+}
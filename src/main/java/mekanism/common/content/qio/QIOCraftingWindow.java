@@ -4,6 +4,8 @@ import it.unimi.dsi.fastutil.ints.Int2IntArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -351,13 +353,17 @@ public class QIOCraftingWindow implements IContentsListener {
         Stat<Item> itemCraftedStat = Stats.ITEM_CRAFTED.get(resultItem);
         int maxToCraft = calculateMaxCraftAmount(result, frequency);
         int amountPerCraft = result.getCount();
-        //Note: We initialized crafted here instead of in the for loop so that we can query how much was actually crafted
-        int crafted = 0;
         remainderHelper.reset();
         replacementHelper.reset();
         boolean recheckOutput = false;
         LastInsertTarget lastInsertTarget = new LastInsertTarget();
         NonNullList<ItemStack> remaining = lastRecipe.value().getRemainingItems(craftingInput.input());
+        //Note: We initialized crafted here instead of in the for loop so that we can query how much was actually crafted
+        int crafted = 0;
+        if (frequency != null) {
+            //Perform as many of the crafts as we can all at once, and then let the loop below handle any final crafts that may affect the crafting grid
+            crafted = performBulkCraft(player, frequency, craftingInput, remaining, result, maxToCraft / amountPerCraft, hotBarSlots, mainInventorySlots, lastInsertTarget);
+        }
         for (; crafted < maxToCraft; crafted += amountPerCraft) {
             if (recheckOutput && changedWhileCrafting) {
                 //If our inputs changed while crafting, and we are supposed to recheck the output,
@@ -479,6 +485,69 @@ public class QIOCraftingWindow implements IContentsListener {
         craftingFinished(world);
     }
 
+    /**
+     * Performs as many crafts as possible at once, as long as each craft would leave the crafting grid unchanged. This is the case when every input is a single item that
+     * gets replaced by pulling an item of the same type from the frequency, and no craft leaves any remaining items behind. This lets us figure out how many crafts we
+     * can perform from how many of each input the frequency has stored, rather than going through each craft one at a time.
+     *
+     * @param maxCrafts Maximum number of crafts to perform.
+     *
+     * @return the number of items that were crafted, which will be a multiple of the result's size.
+     */
+    private int performBulkCraft(@NotNull Player player, @NotNull QIOFrequency frequency, CraftingInput.Positioned craftingInput, NonNullList<ItemStack> remaining,
+          ItemStack result, int maxCrafts, List<HotBarSlot> hotBarSlots, List<MainInventorySlot> mainInventorySlots, LastInsertTarget lastInsertTarget) {
+        if (maxCrafts <= 0) {
+            return 0;
+        }
+        //Count how many of each input type we need from the frequency per craft
+        Object2IntMap<HashedItem> required = new Object2IntArrayMap<>(inputSlots.length);
+        for (int subIndex = 0, size = remaining.size(); subIndex < size; subIndex++) {
+            if (!remaining.get(subIndex).isEmpty()) {
+                //If any remaining items would be added back to the grid or the player's inventory, craft them individually
+                return 0;
+            }
+            IInventorySlot inputSlot = inputSlots[getIndexFromRemaining(craftingInput, subIndex)];
+            if (inputSlot.getCount() > 1) {
+                //Stacked inputs get used up from the grid before we start pulling from the frequency
+                return 0;
+            } else if (inputSlot.getCount() == 1) {
+                //Note: As none of the remainders are present, the last item in a slot is never still valid for the recipe,
+                // which means it will be replaced by one from the frequency if there is one stored
+                required.mergeInt(HashedItem.raw(inputSlot.getStack()), 1, Integer::sum);
+            }
+        }
+        if (required.isEmpty()) {
+            return 0;
+        }
+        int crafts = maxCrafts;
+        for (Object2IntMap.Entry<HashedItem> entry : required.object2IntEntrySet()) {
+            //Note: Once the frequency runs out of an input, the next craft uses up the item in the grid, so we leave that craft to be handled normally
+            // as it may need to look for a replacement or recheck the recipe
+            crafts = (int) Math.min(crafts, frequency.getStoredByHash(entry.getKey()) / entry.getIntValue());
+            if (crafts == 0) {
+                return 0;
+            }
+        }
+        //Check how much room the player's inventory has for the result
+        int toCraft = crafts * result.getCount();
+        ItemStack simulatedRemainder = MekanismContainer.insertItemCheckAll(hotBarSlots, result.copyWithCount(toCraft), windowData, Action.SIMULATE);
+        simulatedRemainder = MekanismContainer.insertItemCheckAll(mainInventorySlots, simulatedRemainder, windowData, Action.SIMULATE);
+        crafts = (toCraft - simulatedRemainder.getCount()) / result.getCount();
+        if (crafts == 0) {
+            return 0;
+        }
+        for (Object2IntMap.Entry<HashedItem> entry : required.object2IntEntrySet()) {
+            long toExtract = (long) crafts * entry.getIntValue();
+            MekanismUtils.logMismatchedStackSize(frequency.massExtract(entry.getKey().getInternalStack(), toExtract, Action.EXECUTE), toExtract);
+        }
+        ItemStack toInsert = lastInsertTarget.tryInserting(hotBarSlots, mainInventorySlots, windowData, result.copyWithCount(crafts * result.getCount()));
+        if (!toInsert.isEmpty()) {
+            //If something went horribly wrong adding it to the player's inventory given we calculated there was room, just drop the items as the player
+            player.drop(toInsert, false);
+        }
+        return crafts * result.getCount();
+    }
+
     private static int getIndexFromRemaining(CraftingInput.Positioned craftingInput, int subIndex) {
         int width = craftingInput.input().width();
         int height = craftingInput.input().height();
@@ -6,6 +6,7 @@ import it.unimi.dsi.fastutil.bytes.Byte2ObjectMaps;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.ArrayList;
@@ -58,6 +59,9 @@ public class QIOServerCraftingTransferHandler {
 
     private final Byte2ObjectMap<SlotData> availableItems = new Byte2ObjectOpenHashMap<>();
     private final Map<UUID, FrequencySlotData> frequencyAvailableItems = new HashMap<>();
+    private final Map<HashedItem, FrequencySlotData> frequencyAvailableByType = new HashMap<>();
+    //Amount of each type that has been extracted from the frequency but not yet moved into the crafting window
+    private final Object2IntMap<UUID> extractedFromFrequency = new Object2IntOpenHashMap<>();
     private final NonNullList<ItemStack> recipeToTest = NonNullList.withSize(9, ItemStack.EMPTY);
 
     public static void tryTransfer(QIOItemViewerContainer container, byte selectedCraftingGrid, boolean rejectToInventory, Player player, ResourceLocation recipeID,
@@ -172,7 +176,12 @@ public class QIOServerCraftingTransferHandler {
                 return fail("Received transfer request from: {}, for: {}, for item with unknown UUID: {}.", player, recipeID, qioSource);
             }
             long stored = frequency.getStoredByHash(storedItem);
-            slotData = stored == 0 ? FrequencySlotData.EMPTY : new FrequencySlotData(storedItem, stored);
+            if (stored == 0) {
+                slotData = FrequencySlotData.EMPTY;
+            } else {
+                slotData = new FrequencySlotData(storedItem, stored);
+                frequencyAvailableByType.put(storedItem, slotData);
+            }
             frequencyAvailableItems.put(qioSource, slotData);
         }
         return addStackToRecipe(targetSlot, slotData, used, (byte) -1, currentStackSize);
@@ -336,16 +345,13 @@ public class QIOServerCraftingTransferHandler {
                     }
                     if (frequency.isStoring(entry.getKey())) {
                         //It is stored, check to make sure it isn't a type we are removing fully
-                        UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(entry.getKey());
-                        if (uuid != null) {
-                            FrequencySlotData slotData = frequencyAvailableItems.get(uuid);
-                            if (slotData != null && slotData.getAvailable() == 0) {
-                                // if it is, then we need to reclaim the item type as being available
-                                availableItemTypes--;
-                                if (availableItemTypes <= 0) {
-                                    //Not enough room for types
-                                    return false;
-                                }
+                        FrequencySlotData slotData = frequencyAvailableByType.get(entry.getKey());
+                        if (slotData != null && slotData.getAvailable() == 0) {
+                            // if it is, then we need to reclaim the item type as being available
+                            availableItemTypes--;
+                            if (availableItemTypes <= 0) {
+                                //Not enough room for types
+                                return false;
                             }
                         }
                     } else {
@@ -410,35 +416,45 @@ public class QIOServerCraftingTransferHandler {
 
     private void transferItems(Byte2ObjectMap<List<SingularHashedItemSource>> sources) {
         SelectedWindowData windowData = craftingWindow.getWindowData();
-        //Extract items that will be put into the crafting window
         Byte2ObjectMap<ItemStack> targetContents = new Byte2ObjectArrayMap<>(sources.size());
+        //Extract everything we need from the frequency up front, so that we only have to remove each type once even if it is going to multiple slots
+        for (Map.Entry<UUID, FrequencySlotData> entry : frequencyAvailableItems.entrySet()) {
+            FrequencySlotData slotData = entry.getValue();
+            HashedItem storedItem = slotData.getType();
+            if (storedItem != null && slotData.getUsed() > 0) {
+                //The frequency can't be null here as we validated that during simulation
+                int extracted = MathUtils.clampToInt(frequency.massExtract(storedItem.getInternalStack(), slotData.getUsed(), Action.EXECUTE));
+                if (extracted == 0) {
+                    bail(targetContents, "Received transfer request from: {}, for: {}, but could not extract item: {} with components: {} from the QIO.",
+                          player, recipeID, storedItem.getItem(), storedItem.getInternalStack().getComponentsPatch());
+                    return;
+                } else if (extracted < slotData.getUsed()) {
+                    Mekanism.logger.warn("Received transfer request from: {}, for: {}, but was unable to extract the expected amount: {} of item: {} "
+                                         + "with components: {} from the QIO. This should not be possible as it should have been caught during simulation. "
+                                         + "Attempting to continue anyways with the actual extracted amount of {}.", player, recipeID, slotData.getUsed(),
+                          storedItem.getItem(), storedItem.getInternalStack().getComponentsPatch(), extracted);
+                }
+                extractedFromFrequency.put(entry.getKey(), extracted);
+            }
+        }
+        //Gather the items that will be put into the crafting window
         for (Byte2ObjectMap.Entry<List<SingularHashedItemSource>> entry : sources.byte2ObjectEntrySet()) {
             for (SingularHashedItemSource source : entry.getValue()) {
                 byte slot = source.getSlot();
                 ItemStack stack;
                 if (slot == -1) {
                     UUID qioSource = source.getQioSource();
-                    //Neither the source nor the frequency can be null here as we validated that during simulation
-                    HashedItem storedItem = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(qioSource);
-                    if (storedItem == null) {
-                        bail(targetContents, "Received transfer request from: {}, for: {}, for item with unknown UUID: {}.", player, recipeID, qioSource);
-                        return;
-                    } else if (!frequency.isStoring(storedItem)) {
-                        bail(targetContents, "Received transfer request from: {}, for: {}, could not find stored item with UUID: {}. "
+                    //Note: The slot data can't be null here as we validated that during simulation
+                    HashedItem storedItem = frequencyAvailableItems.get(qioSource).getType();
+                    int available = extractedFromFrequency.getInt(qioSource);
+                    if (available == 0) {
+                        bail(targetContents, "Received transfer request from: {}, for: {}, could not find extracted item with UUID: {}. "
                                              + "This likely means that more of it was requested than is stored.", player, recipeID, qioSource);
                         return;
                     }
-                    stack = frequency.removeByType(storedItem, source.getUsed());
-                    if (stack.isEmpty()) {
-                        bail(targetContents, "Received transfer request from: {}, for: {}, but could not extract item: {} with components: {} from the QIO.",
-                              player, recipeID, storedItem.getItem(), storedItem.getInternalStack().getComponentsPatch());
-                        return;
-                    } else if (stack.getCount() < source.getUsed()) {
-                        Mekanism.logger.warn("Received transfer request from: {}, for: {}, but was unable to extract the expected amount: {} of item: {} "
-                                             + "with components: {} from the QIO. This should not be possible as it should have been caught during simulation. "
-                                             + "Attempting to continue anyways with the actual extracted amount of {}.", player, recipeID, source.getUsed(),
-                              storedItem.getItem(), storedItem.getInternalStack().getComponentsPatch(), stack.getCount());
-                    }
+                    int used = Math.min(available, source.getUsed());
+                    extractedFromFrequency.put(qioSource, available - used);
+                    stack = storedItem.createStack(used);
                 } else {
                     int actualSlot;
                     String slotType;
@@ -565,9 +581,13 @@ public class QIOServerCraftingTransferHandler {
         if (!targetContents.isEmpty()) {
             //If we have any contents we wanted to move remaining try to return them, in theory
             // this should never happen but in case it does make sure we don't void any items
+            // Note: This also returns any items we extracted from the frequency that didn't get used
             bail(targetContents, "Received transfer request from: {}, for: {}, but ended up with {} items that could not be transferred into "
                                  + "the proper crafting grid slot. This should not be possible as it should have been caught during simulation.", player, recipeID,
                   targetContents.size());
+        } else {
+            //Return anything we extracted from the frequency that didn't get used, though in theory there shouldn't be anything
+            returnExtractedFromFrequency(windowData);
         }
     }
 
@@ -584,6 +604,7 @@ public class QIOServerCraftingTransferHandler {
     private void bail(Byte2ObjectMap<ItemStack> targetContents, Byte2ObjectMap<ItemStack> remainingCraftingGridContents, String format, Object... args) {
         Mekanism.logger.warn(format, args);
         SelectedWindowData windowData = craftingWindow.getWindowData();
+        returnExtractedFromFrequency(windowData);
         for (ItemStack stack : targetContents.values()) {
             //We don't attempt to try and return the contents being moved to the crafting inventory to their original slots
             // as we don't keep track of that data and in theory unless something goes majorly wrong we should never end
@@ -605,6 +626,23 @@ public class QIOServerCraftingTransferHandler {
         }
     }
 
+    /**
+     * Returns any items that were extracted from the frequency but did not end up getting moved into the crafting window.
+     */
+    private void returnExtractedFromFrequency(@Nullable SelectedWindowData windowData) {
+        for (Object2IntMap.Entry<UUID> entry : extractedFromFrequency.object2IntEntrySet()) {
+            int remaining = entry.getIntValue();
+            if (remaining > 0) {
+                HashedItem type = frequencyAvailableItems.get(entry.getKey()).getType();
+                remaining -= MathUtils.clampToInt(frequency.massInsert(type.getInternalStack(), remaining, Action.EXECUTE));
+                if (remaining > 0) {
+                    returnItem(type.createStack(remaining), windowData);
+                }
+            }
+        }
+        extractedFromFrequency.clear();
+    }
+
     /**
      * Tries to reinsert the stack into the player's inventory, and then if there is any remaining items tries to insert them into the frequency if there is one and if
      * not just drops them by the player.
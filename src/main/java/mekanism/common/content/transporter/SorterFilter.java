@@ -16,12 +16,10 @@ import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
 import mekanism.common.lib.inventory.Finder;
-import mekanism.common.lib.inventory.TransitRequest;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.util.ExtraCodecs;
 import net.minecraft.world.item.Item;
-import net.neoforged.neoforge.items.IItemHandler;
 import org.jetbrains.annotations.Nullable;
 
 public abstract class SorterFilter<FILTER extends SorterFilter<FILTER>> extends BaseFilter<FILTER> {
@@ -92,11 +90,11 @@ public abstract class SorterFilter<FILTER extends SorterFilter<FILTER>> extends
 
     public abstract Finder getFinder();
 
-    public TransitRequest mapInventory(IItemHandler itemHandler, boolean singleItem) {
-        if (sizeMode && !singleItem) {
-            return TransitRequest.definedItem(itemHandler, min, max, getFinder());
-        }
-        return TransitRequest.definedItem(itemHandler, singleItem ? 1 : Item.ABSOLUTE_MAX_STACK_SIZE, getFinder());
+    /**
+     * {@return true if whether this filter's finder matches a stack only depends on the stack's item, and not on its components}
+     */
+    public boolean matchesByItem() {
+        return false;
     }
 
     @Override
@@ -0,0 +1,128 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.lib.inventory.Finder;
+import mekanism.common.lib.inventory.TransitRequest;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
+
+/**
+ * Compiled form of a Logistical Sorter's enabled filters, which allows matching the contents of an inventory against every filter in a single pass over the inventory.
+ * Which filters may match a stack is resolved once per item type, and then remembered for as long as the index is.
+ *
+ * @implNote The index must be recreated whenever the filters change, or tags are reloaded.
+ */
+public class SorterFilterIndex {
+
+    private static final int[] NO_FILTERS = new int[0];
+
+    private final List<SorterFilter<?>> filters;
+    private final Finder[] finders;
+    private final boolean[] matchesByItem;
+    private final Map<Item, int[]> candidates = new Reference2ObjectOpenHashMap<>();
+    //Results of the last scan
+    private final IntList[] matchingSlots;
+    private final IntList defaultSlots = new IntArrayList();
+    private ItemStack[] scanned = new ItemStack[0];
+
+    public SorterFilterIndex(List<SorterFilter<?>> filters) {
+        this.filters = List.copyOf(filters);
+        int size = this.filters.size();
+        finders = new Finder[size];
+        matchesByItem = new boolean[size];
+        matchingSlots = new IntList[size];
+        for (int i = 0; i < size; i++) {
+            SorterFilter<?> filter = this.filters.get(i);
+            finders[i] = filter.getFinder();
+            matchesByItem[i] = filter.matchesByItem();
+            matchingSlots[i] = new IntArrayList();
+        }
+    }
+
+    public List<SorterFilter<?>> getFilters() {
+        return filters;
+    }
+
+    /**
+     * Scans the given inventory, keeping track of which slots each filter matches, and which slots are not matched by any filter that disallows default routing.
+     */
+    public void scan(IItemHandler inventory) {
+        for (IntList slots : matchingSlots) {
+            slots.clear();
+        }
+        defaultSlots.clear();
+        int slotCount = inventory.getSlots();
+        if (scanned.length < slotCount) {
+            scanned = new ItemStack[slotCount];
+        } else {
+            //Clear any references to stacks from the last scan
+            Arrays.fill(scanned, ItemStack.EMPTY);
+        }
+        // count backwards- we start from the bottom of the inventory and go back for consistency with TransitRequest#definedItem
+        for (int slot = slotCount - 1; slot >= 0; slot--) {
+            ItemStack stack = inventory.extractItem(slot, Item.ABSOLUTE_MAX_STACK_SIZE, true);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            scanned[slot] = stack;
+            boolean allowDefault = true;
+            for (int filter : getCandidates(stack)) {
+                //Filters that only depend on the item already had their finder tested when we looked up the candidates
+                if (matchesByItem[filter] || finders[filter].test(stack)) {
+                    matchingSlots[filter].add(slot);
+                    if (!filters.get(filter).allowDefault) {
+                        allowDefault = false;
+                    }
+                }
+            }
+            if (allowDefault) {
+                defaultSlots.add(slot);
+            }
+        }
+    }
+
+    /**
+     * Creates a request for the items the filter at the given index matched during the last {@link #scan(IItemHandler) scan}.
+     */
+    public TransitRequest createRequest(IItemHandler inventory, int filterIndex, boolean singleItem) {
+        SorterFilter<?> filter = filters.get(filterIndex);
+        if (filter.sizeMode && !singleItem) {
+            return TransitRequest.definedItem(inventory, filter.min, filter.max, matchingSlots[filterIndex], this::getScanned);
+        }
+        return TransitRequest.definedItem(inventory, 1, singleItem ? 1 : Item.ABSOLUTE_MAX_STACK_SIZE, matchingSlots[filterIndex], this::getScanned);
+    }
+
+    /**
+     * Creates a request for the items that may be routed by default, as found during the last {@link #scan(IItemHandler) scan}.
+     */
+    public TransitRequest createDefaultRequest(IItemHandler inventory, boolean singleItem) {
+        //TODO - 1.21: Evaluate if this should use a stack's max stack size or the absolute stack size
+        return TransitRequest.definedItem(inventory, 1, singleItem ? 1 : Item.ABSOLUTE_MAX_STACK_SIZE, defaultSlots, this::getScanned);
+    }
+
+    private ItemStack getScanned(int slot) {
+        return scanned[slot];
+    }
+
+    private int[] getCandidates(ItemStack stack) {
+        int[] result = candidates.get(stack.getItem());
+        if (result == null) {
+            IntList matching = new IntArrayList();
+            for (int i = 0; i < finders.length; i++) {
+                //Note: Filters that depend on more than just the item have to be checked against each stack
+                if (!matchesByItem[i] || finders[i].test(stack)) {
+                    matching.add(i);
+                }
+            }
+            result = matching.isEmpty() ? NO_FILTERS : matching.toIntArray();
+            candidates.put(stack.getItem(), result);
+        }
+        return result;
+    }
+}
@@ -58,6 +58,11 @@ public class SorterItemStackFilter extends SorterFilter<SorterItemStackFilter> i
         return fuzzyMode ? Finder.item(itemType) : Finder.strict(itemType);
     }
 
+    @Override
+    public boolean matchesByItem() {
+        return fuzzyMode;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(super.hashCode(), itemType.getItem(), fuzzyMode);
@@ -50,6 +50,11 @@ public class SorterTagFilter extends SorterFilter<SorterTagFilter> implements IT
         return Finder.tag(tagName);
     }
 
+    @Override
+    public boolean matchesByItem() {
+        return true;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(super.hashCode(), tagName);
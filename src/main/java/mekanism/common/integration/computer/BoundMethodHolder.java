@@ -4,6 +4,9 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
 import it.unimi.dsi.fastutil.objects.ObjectIntImmutablePair;
 import it.unimi.dsi.fastutil.objects.ObjectIntPair;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -13,6 +16,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import mekanism.common.integration.computer.ComputerMethodFactory.ComputerFunctionCaller;
 import net.neoforged.neoforge.common.util.Lazy;
@@ -30,26 +35,125 @@ public abstract class BoundMethodHolder {
           .returnExtra(String.class, MethodHelpData.class)
           .arguments(new String[]{"methodName"}, new Class[]{String.class})
           .build();
-
+    private static final MethodData<Map<BoundMethodData<?>, MethodStatistics>> STATISTICS_METHOD = MethodData.builder("getMethodStatistics", BoundMethodHolder::generateStatistics)
+          .returnType(Map.class)
+          .returnExtra(String.class, Map.class)
+          .methodDescription("Call counts and average latency (in nanoseconds) of the methods that have been called, split by whether they were served from the "
+                             + "per tick snapshot, called directly, or queued on the main thread")
+          .build();
 
     protected final ListMultimap<String, BoundMethodData<?>> methods = ArrayListMultimap.create();
     /**
      * Method + arg count pairs to make sure methods are unique
      */
     private final Set<ObjectIntPair<String>> methodsKnown = new HashSet<>();
+    /**
+     * Only modified while methods are being registered, so is safe to read from the computer threads afterward.
+     */
+    private final Map<BoundMethodData<?>, MethodStatistics> statistics = new Reference2ObjectOpenHashMap<>();
+    private final List<BoundMethodData<?>> snapshotMethods = new ArrayList<>();
+    private final AtomicBoolean tracked = new AtomicBoolean();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long lastSnapshotRead;
 
     protected Lazy<String[]> methodNames = Lazy.of(() -> this.methods.keys().toArray(new String[0]));
 
     protected BoundMethodHolder() {
         register(HELP_METHOD, new WeakReference<>(this.methods), true);
         register(HELP_METHOD_WITH_NAME, new WeakReference<>(this.methods), true);
+        register(STATISTICS_METHOD, new WeakReference<>(this.statistics), true);
     }
 
     public <T> void register(MethodData<T> method, @Nullable WeakReference<T> subject, boolean isHelpMethod) {
         if (!methodsKnown.add(new ObjectIntImmutablePair<>(method.name(), method.argumentNames().length))) {
             throw new RuntimeException("Duplicate method name " + method.name() + "_" + method.argumentNames().length);
         }
-        this.methods.put(method.name(), new BoundMethodData<>(method, subject, isHelpMethod));
+        BoundMethodData<T> boundMethod = new BoundMethodData<>(method, subject, isHelpMethod);
+        this.methods.put(method.name(), boundMethod);
+        this.statistics.put(boundMethod, new MethodStatistics());
+        if (method.snapshot()) {
+            this.snapshotMethods.add(boundMethod);
+        }
+    }
+
+    public MethodStatistics getStatistics(BoundMethodData<?> method) {
+        return statistics.get(method);
+    }
+
+    /**
+     * Creates a helper for calling snapshot methods on the main thread when publishing a snapshot, or {@code null} if this holder doesn't support snapshots.
+     */
+    @Nullable
+    protected BaseComputerHelper createSnapshotHelper() {
+        return null;
+    }
+
+    /**
+     * @return {@code true} if the subject of this holder still exists and snapshots should be published for it.
+     */
+    protected boolean canSnapshot() {
+        return true;
+    }
+
+    /**
+     * Gets the result of a snapshot method from the snapshot that was published at the end of the last tick. Safe to call from any thread.
+     *
+     * @return The result, or {@code null} if the method has to be called on the main thread, in which case a snapshot will be published for future calls.
+     */
+    @Nullable
+    public Object getSnapshotValue(BoundMethodData<?> method) {
+        if (!method.snapshot()) {
+            return null;
+        }
+        long tick = ComputerSnapshotManager.getTick();
+        lastSnapshotRead = tick;
+        Snapshot current = snapshot;
+        if (current.tick != tick) {
+            //Either we haven't been polled recently or the snapshot for the current tick hasn't been published yet
+            ComputerSnapshotManager.track(this);
+            return null;
+        }
+        return current.values.get(method);
+    }
+
+    boolean startTracking() {
+        return tracked.compareAndSet(false, true);
+    }
+
+    void stopTracking() {
+        snapshot = Snapshot.EMPTY;
+        tracked.set(false);
+    }
+
+    /**
+     * Calls all the snapshot methods and swaps in the new snapshot. Must be called on the main thread.
+     *
+     * @return {@code false} if snapshots should stop being published for this holder.
+     */
+    boolean publishSnapshot(long tick) {
+        if (tick - lastSnapshotRead > ComputerSnapshotManager.IDLE_TICKS || !canSnapshot()) {
+            return false;
+        }
+        BaseComputerHelper helper = createSnapshotHelper();
+        if (helper == null) {
+            return false;
+        }
+        Reference2ObjectMap<BoundMethodData<?>, Object> values = new Reference2ObjectOpenHashMap<>(snapshotMethods.size());
+        for (BoundMethodData<?> method : snapshotMethods) {
+            if (method.subject() != null && method.subject().get() == null) {
+                continue;
+            }
+            try {
+                Object value = method.call(helper);
+                if (value != null) {
+                    values.put(method, value);
+                }
+            } catch (ComputerException e) {
+                //Skip it so that the method gets called on the main thread instead, and the error gets passed on to the computer
+            }
+        }
+        snapshot = new Snapshot(tick, Reference2ObjectMaps.unmodifiable(values));
+        return true;
     }
 
     public record BoundMethodData<T>(MethodData<T> method, @Nullable WeakReference<T> subject, boolean isHelpMethod) {
@@ -71,6 +175,10 @@ public abstract class BoundMethodHolder {
             return method.threadSafe();
         }
 
+        public boolean snapshot() {
+            return method.snapshot();
+        }
+
         public String[] argumentNames() {
             return method.argumentNames();
         }
@@ -113,6 +221,21 @@ public abstract class BoundMethodHolder {
         }
     }
 
+    public static Object generateStatistics(Map<BoundMethodData<?>, MethodStatistics> statistics, BaseComputerHelper helper) {
+        if (statistics == null) {
+            return helper.voidResult();
+        }
+        Map<String, Map<String, Long>> result = new HashMap<>();
+        for (Map.Entry<BoundMethodData<?>, MethodStatistics> entry : statistics.entrySet()) {
+            MethodStatistics stats = entry.getValue();
+            if (stats.hasCalls()) {
+                BoundMethodData<?> md = entry.getKey();
+                result.put(md.name() + "(" + String.join(", ", md.argumentNames()) + ")", stats.toMap());
+            }
+        }
+        return helper.convert(result, helper::convert, stats -> helper.convert(stats, helper::convert, helper::convert));
+    }
+
     public static Object generateHelp(ListMultimap<String, BoundMethodData<?>> methods, BaseComputerHelper helper) {
         if (methods == null) {
             return helper.voidResult();
@@ -141,4 +264,57 @@ public abstract class BoundMethodHolder {
         }
         return helper.convert(helpItems, helper::convert, helper::convert);
     }
-}
\ No newline at end of file
+
+    private record Snapshot(long tick, Reference2ObjectMap<BoundMethodData<?>, Object> values) {
+
+        private static final Snapshot EMPTY = new Snapshot(-1, Reference2ObjectMaps.emptyMap());
+    }
+
+    /**
+     * Per method call counters, so that it is possible to see how much time computers are spending waiting on the main thread.
+     */
+    public static class MethodStatistics {
+
+        private final LongAdder snapshotCalls = new LongAdder();
+        private final LongAdder snapshotNanos = new LongAdder();
+        private final LongAdder directCalls = new LongAdder();
+        private final LongAdder directNanos = new LongAdder();
+        private final LongAdder mainThreadCalls = new LongAdder();
+        private final LongAdder mainThreadNanos = new LongAdder();
+
+        public void recordSnapshot(long nanos) {
+            snapshotCalls.increment();
+            snapshotNanos.add(nanos);
+        }
+
+        public void recordDirect(long nanos) {
+            directCalls.increment();
+            directNanos.add(nanos);
+        }
+
+        /**
+         * @param nanos Time between the call being queued and the main thread finishing it.
+         */
+        public void recordMainThread(long nanos) {
+            mainThreadCalls.increment();
+            mainThreadNanos.add(nanos);
+        }
+
+        private boolean hasCalls() {
+            return snapshotCalls.sum() > 0 || directCalls.sum() > 0 || mainThreadCalls.sum() > 0;
+        }
+
+        private Map<String, Long> toMap() {
+            Map<String, Long> map = new HashMap<>();
+            addCounts(map, "snapshot", snapshotCalls.sum(), snapshotNanos.sum());
+            addCounts(map, "direct", directCalls.sum(), directNanos.sum());
+            addCounts(map, "mainThread", mainThreadCalls.sum(), mainThreadNanos.sum());
+            return map;
+        }
+
+        private static void addCounts(Map<String, Long> map, String type, long calls, long nanos) {
+            map.put(type + "Calls", calls);
+            map.put(type + "AverageNanos", calls == 0 ? 0 : nanos / calls);
+        }
+    }
+}
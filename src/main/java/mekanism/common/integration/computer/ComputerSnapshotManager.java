@@ -0,0 +1,56 @@
+package mekanism.common.integration.computer;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps track of the method holders that computers are currently polling snapshot methods of, and publishes a new snapshot for each of them at the end of every server
+ * tick.
+ */
+public class ComputerSnapshotManager {
+
+    /**
+     * Number of ticks a holder may go without any of its snapshot methods being read before we stop publishing snapshots for it.
+     */
+    static final int IDLE_TICKS = 5 * 20;
+
+    private ComputerSnapshotManager() {
+    }
+
+    //Note: We use a queue rather than a set as the holders may have hash codes that depend on their bound methods
+    private static final Queue<BoundMethodHolder> activeHolders = new ConcurrentLinkedQueue<>();
+    private static volatile long tick;
+
+    static long getTick() {
+        return tick;
+    }
+
+    static void track(BoundMethodHolder holder) {
+        if (holder.startTracking()) {
+            activeHolders.add(holder);
+        }
+    }
+
+    /**
+     * Called on the main thread at the end of each server tick.
+     */
+    public static void tick() {
+        long currentTick = ++tick;
+        for (Iterator<BoundMethodHolder> iterator = activeHolders.iterator(); iterator.hasNext(); ) {
+            BoundMethodHolder holder = iterator.next();
+            if (!holder.publishSnapshot(currentTick)) {
+                iterator.remove();
+                holder.stopTracking();
+            }
+        }
+    }
+
+    public static void reset() {
+        for (BoundMethodHolder holder : activeHolders) {
+            holder.stopTracking();
+        }
+        activeHolders.clear();
+        tick = 0;
+    }
+}
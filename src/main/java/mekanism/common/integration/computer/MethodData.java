@@ -6,13 +6,15 @@ import mekanism.common.integration.computer.ComputerMethodFactory.ComputerFuncti
 import net.neoforged.fml.ModList;
 import org.jetbrains.annotations.Nullable;
 
-public record MethodData<T>(String name, MethodRestriction restriction, String[] requiredMods, boolean threadSafe, String[] argumentNames, Class<?>[] argClasses,
-                            Class<?> returnType, Class<?>[] returnExtra, ComputerFunctionCaller<T> handler, @Nullable String methodDescription,
+public record MethodData<T>(String name, MethodRestriction restriction, String[] requiredMods, boolean threadSafe, boolean snapshot, String[] argumentNames,
+                            Class<?>[] argClasses, Class<?> returnType, Class<?>[] returnExtra, ComputerFunctionCaller<T> handler, @Nullable String methodDescription,
                             boolean requiresPublicSecurity) {
 
     public MethodData {
         if (argClasses.length != argumentNames.length) {
             throw new IllegalStateException("Argument arrays should be the same length");
+        } else if (snapshot && argumentNames.length > 0) {
+            throw new IllegalStateException("Snapshot methods cannot have arguments");
         }
     }
 
@@ -37,15 +39,15 @@ public record MethodData<T>(String name, MethodRestriction restriction, String[]
             return false;
         }
         MethodData<?> other = (MethodData<?>) o;
-        return threadSafe == other.threadSafe && requiresPublicSecurity == other.requiresPublicSecurity && restriction == other.restriction && returnType == other.returnType &&
-               name.equals(other.name) && Arrays.equals(requiredMods, other.requiredMods) && Arrays.equals(argClasses, other.argClasses) &&
+        return threadSafe == other.threadSafe && snapshot == other.snapshot && requiresPublicSecurity == other.requiresPublicSecurity && restriction == other.restriction &&
+               returnType == other.returnType && name.equals(other.name) && Arrays.equals(requiredMods, other.requiredMods) && Arrays.equals(argClasses, other.argClasses) &&
                Arrays.equals(argumentNames, other.argumentNames) && Arrays.equals(returnExtra, other.returnExtra) &&
                Objects.equals(methodDescription, other.methodDescription) && handler.equals(other.handler);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, restriction, Arrays.hashCode(requiredMods), threadSafe, Arrays.hashCode(argumentNames), Arrays.hashCode(argClasses), returnType,
+        return Objects.hash(name, restriction, Arrays.hashCode(requiredMods), threadSafe, snapshot, Arrays.hashCode(argumentNames), Arrays.hashCode(argClasses), returnType,
               Arrays.hashCode(returnExtra), handler, methodDescription, requiresPublicSecurity);
     }
 
@@ -62,6 +64,7 @@ public record MethodData<T>(String name, MethodRestriction restriction, String[]
         private MethodRestriction restriction = MethodRestriction.NONE;
         private String[] requiredMods = NO_STRINGS;
         private boolean threadSafe = false;
+        private boolean snapshot = false;
         private String[] argumentNames = NO_STRINGS;
         private Class<?>[] argClasses = NO_CLASSES;
         private Class<?> returnType = void.class;
@@ -76,7 +79,8 @@ public record MethodData<T>(String name, MethodRestriction restriction, String[]
         }
 
         public MethodData<T> build() {
-            return new MethodData<>(methodName, restriction, requiredMods, threadSafe, argumentNames, argClasses, returnType, returnExtra, handler, methodDescription, requiresPublicSecurity);
+            return new MethodData<>(methodName, restriction, requiredMods, threadSafe, snapshot, argumentNames, argClasses, returnType, returnExtra, handler,
+                  methodDescription, requiresPublicSecurity);
         }
 
         public Builder<T> restriction(MethodRestriction restriction) {
@@ -94,6 +98,14 @@ public record MethodData<T>(String name, MethodRestriction restriction, String[]
             return this;
         }
 
+        /**
+         * Marks this method as a read-only getter whose result can be served from a per tick snapshot.
+         */
+        public Builder<T> snapshot() {
+            this.snapshot = true;
+            return this;
+        }
+
         public Builder<T> arguments(String[] argumentNames, Class<?>[] argClasses) {
             if (argClasses.length != argumentNames.length) {
                 throw new IllegalStateException("Argument arrays should be the same length");
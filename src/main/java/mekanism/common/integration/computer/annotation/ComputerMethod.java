@@ -30,6 +30,12 @@ public @interface ComputerMethod {
      */
     boolean threadSafe() default false;
 
+    /**
+     * Whether this method is a read-only getter whose result can be captured once per tick and served from that snapshot on the computer's thread. Only valid for
+     * methods without any parameters.
+     */
+    boolean snapshot() default false;
+
     /**
      * Whether this method will fail when security is not public. Documentation property.
      */
@@ -30,6 +30,11 @@ public @interface SyntheticComputerMethod {
      */
     boolean threadSafeGetter() default false;
 
+    /**
+     * Whether the result of the synthetic getter can be captured once per tick and served from that snapshot on the computer's thread.
+     */
+    boolean snapshotGetter() default false;
+
     /**
      * Name to use for the synthetic setter.
      */
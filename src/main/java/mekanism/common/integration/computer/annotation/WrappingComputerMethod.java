@@ -40,6 +40,11 @@ public @interface WrappingComputerMethod {
      */
     boolean threadSafe() default false;
 
+    /**
+     * Whether the results of the generated wrapped methods can be captured once per tick and served from that snapshot on the computer's thread.
+     */
+    boolean snapshot() default false;
+
     /**
      * Describe the wrapped element, to be used in the %s placeholder of target methods' docs.
      */
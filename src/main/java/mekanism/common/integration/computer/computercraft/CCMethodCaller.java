@@ -4,9 +4,11 @@ import dan200.computercraft.api.lua.IArguments;
 import dan200.computercraft.api.lua.ILuaContext;
 import dan200.computercraft.api.lua.LuaException;
 import dan200.computercraft.api.lua.MethodResult;
+import dan200.computercraft.api.lua.ObjectArguments;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.stream.Collectors;
+import mekanism.common.integration.computer.BaseComputerHelper;
 import mekanism.common.integration.computer.BoundMethodHolder;
 import mekanism.common.integration.computer.ComputerException;
 import org.jetbrains.annotations.NotNull;
@@ -26,11 +28,32 @@ public class CCMethodCaller extends BoundMethodHolder {
         Collection<BoundMethodData<?>> methodDataCollection = this.methods.get(methodNames[methodIdx]);
         int argCount = arguments.count();
         BoundMethodData<?> methodToCall = getBoundMethodData(methodDataCollection, argCount);
+        MethodStatistics statistics = getStatistics(methodToCall);
+        long start = System.nanoTime();
         if (methodToCall.threadSafe()) {
-            return callHandler(arguments, methodToCall);
+            MethodResult result = callHandler(arguments, methodToCall);
+            statistics.recordDirect(System.nanoTime() - start);
+            return result;
+        }
+        Object snapshotValue = getSnapshotValue(methodToCall);
+        if (snapshotValue != null) {
+            statistics.recordSnapshot(System.nanoTime() - start);
+            return snapshotValue instanceof MethodResult mr ? mr : MethodResult.of(snapshotValue);
         }
         arguments.escapes();
-        return context.executeMainThreadTask(() -> callHandler(arguments, methodToCall).getResult());
+        return context.executeMainThreadTask(() -> {
+            try {
+                return callHandler(arguments, methodToCall).getResult();
+            } finally {
+                statistics.recordMainThread(System.nanoTime() - start);
+            }
+        });
+    }
+
+    @Override
+    protected BaseComputerHelper createSnapshotHelper() {
+        //Snapshot methods never take any arguments
+        return new CCComputerHelper(new ObjectArguments());
     }
 
     private static BoundMethodData<?> getBoundMethodData(Collection<BoundMethodData<?>> methodDataCollection, int argCount) throws LuaException {
@@ -37,6 +37,12 @@ public class MekanismPeripheral<TILE extends BlockEntity & IComputerTile> extend
         return callMethod(context, method, arguments);
     }
 
+    @Override
+    protected boolean canSnapshot() {
+        TILE tile = this.tile.get();
+        return tile != null && !tile.isRemoved();
+    }
+
     @Override
     public String getType() {
         return name;
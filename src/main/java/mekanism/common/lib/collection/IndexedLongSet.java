@@ -0,0 +1,83 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import net.minecraft.util.RandomSource;
+
+/**
+ * A set of longs that also keeps its elements in a dense list, so that it supports constant time add, remove, and uniform random sampling without having to copy the
+ * elements.
+ *
+ * @implNote Removal swaps the last element into the removed element's place, so the iteration order is not stable.
+ */
+public class IndexedLongSet {
+
+    private final LongArrayList elements;
+    private final Long2IntMap indices;
+
+    public IndexedLongSet() {
+        this(16);
+    }
+
+    public IndexedLongSet(int expectedSize) {
+        elements = new LongArrayList(expectedSize);
+        indices = new Long2IntOpenHashMap(expectedSize);
+        indices.defaultReturnValue(-1);
+    }
+
+    public boolean add(long value) {
+        if (indices.putIfAbsent(value, elements.size()) == -1) {
+            elements.add(value);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean remove(long value) {
+        int index = indices.remove(value);
+        if (index == -1) {
+            return false;
+        }
+        long last = elements.removeLong(elements.size() - 1);
+        if (index < elements.size()) {
+            //Move the last element into the hole left by the removed one
+            elements.set(index, last);
+            indices.put(last, index);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        return indices.containsKey(value);
+    }
+
+    /**
+     * Picks an element uniformly at random. Must not be called when the set is empty.
+     */
+    public long sample(RandomSource random) {
+        return elements.getLong(random.nextInt(elements.size()));
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    public void clear() {
+        elements.clear();
+        indices.clear();
+    }
+
+    /**
+     * {@return an unmodifiable view of the elements}
+     */
+    public LongList elements() {
+        return LongLists.unmodifiable(elements);
+    }
+}
@@ -1,10 +1,10 @@
 package mekanism.common.lib.distribution;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
 
 /**
  * Keeps track of a target for emitting from various networks.
@@ -19,27 +19,38 @@ public abstract class Target<HANDLER, RESOURCE> {
      */
     protected final Collection<HANDLER> handlers;
     /**
-     * Collection of handler type pairs that want more than we can/are willing to provide. Value is the amount they want.
+     * Handlers that want more than we can/are willing to provide, in the order they were simulated. Stored alongside {@link #neededAmounts} as parallel lists so that
+     * walking them doesn't require any boxing or per entry allocations.
      */
-    //todo Object 2 long map? and fast iterator
-    protected final Collection<HandlerType<HANDLER>> needed;
+    private final ObjectArrayList<HANDLER> neededHandlers;
+    /**
+     * The amount each handler in {@link #neededHandlers} wants.
+     */
+    private final LongArrayList neededAmounts;
+    /**
+     * The smallest amount any of the needed handlers wants, so that we can skip checking them all if none of them fit under the split.
+     */
+    private long minNeeded = Long.MAX_VALUE;
 
     private int handlerCount = 0;
 
     protected Target() {
-        handlers = new LinkedList<>();
-        needed = new LinkedList<>();
+        handlers = new ArrayList<>();
+        neededHandlers = new ObjectArrayList<>();
+        neededAmounts = new LongArrayList();
     }
 
     protected Target(Collection<HANDLER> allHandlers) {
         this.handlers = Collections.unmodifiableCollection(allHandlers);
-        this.needed = new ArrayList<>(allHandlers.size() / 2);
+        this.neededHandlers = new ObjectArrayList<>(allHandlers.size() / 2);
+        this.neededAmounts = new LongArrayList(allHandlers.size() / 2);
         this.handlerCount = allHandlers.size();
     }
 
     protected Target(int expectedSize) {
         this.handlers = new ArrayList<>(expectedSize);
-        this.needed = new ArrayList<>(expectedSize / 2);
+        this.neededHandlers = new ObjectArrayList<>(expectedSize / 2);
+        this.neededAmounts = new LongArrayList(expectedSize / 2);
     }
 
     public void addHandler(HANDLER handler) {
@@ -60,41 +71,48 @@ public abstract class Target<HANDLER, RESOURCE> {
      */
     public void sendRemainingSplit(RESOURCE resource, SplitInfo splitInfo) {
         //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
-        if (!needed.isEmpty() && splitInfo.getRemainderAmount() != 0) {
-            Iterator<HandlerType<HANDLER>> iterator = needed.iterator();
-            while (iterator.hasNext()) {
+        if (!neededAmounts.isEmpty() && splitInfo.getRemainderAmount() != 0) {
+            HANDLER[] needed = neededHandlers.elements();
+            long[] amounts = neededAmounts.elements();
+            int size = neededAmounts.size();
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
                 long remainderAmount = splitInfo.getRemainderAmount();
                 if (remainderAmount == 0) {
-                    //We finished inserting everything we wanted to, we can just exit
+                    //We finished inserting everything we wanted to, we can just exit after keeping the ones we didn't get to
+                    for (; i < size; i++) {
+                        keepNeeded(needed, amounts, i, kept++);
+                    }
+                    truncateNeeded(kept);
                     return;
                 }
-                HandlerType<HANDLER> needInfo = iterator.next();
                 //Accept the remaining amount
-                long amountNeeded = needInfo.amount();
+                long amountNeeded = amounts[i];
                 if (amountNeeded <= remainderAmount) {
-                    acceptAmount(needInfo.handler(), splitInfo, resource, amountNeeded);
                     //If the amount we needed was the less than or the same as our remaining amount
-                    // we can remove the value as it has now been sent
-                    iterator.remove();
+                    // we don't keep the value as it has now been sent
+                    acceptAmount(needed[i], splitInfo, resource, amountNeeded);
                 } else {
                     splitInfo.decrementTargets = false;
-                    acceptAmount(needInfo.handler(), splitInfo, resource, remainderAmount);
+                    acceptAmount(needed[i], splitInfo, resource, remainderAmount);
                     splitInfo.decrementTargets = true;
+                    keepNeeded(needed, amounts, i, kept++);
                 }
             }
+            truncateNeeded(kept);
             //TODO: If we remove buffers maybe we should evaluate not caring if we don't actually send the full excess remainder?
             // Given ideally we wouldn't attempting to insert the excess remainder to handlers as a second call to the handler on the same tick
             if (splitInfo.getUnsent() != 0) {
                 //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first target willing to accept it
                 // This might happen if one of the destinations was only able to accept part of the remaining amount, though in general that case will be
                 // covered by shifting the needed values
-                for (HandlerType<HANDLER> recipient : needed) {
+                for (int i = 0; i < kept; i++) {
                     long remaining = splitInfo.getUnsent();
                     if (remaining == 0) {
                         //We finished, exit
                         return;
                     }
-                    acceptAmount(recipient.handler(), splitInfo, resource, remaining);
+                    acceptAmount(needed[i], splitInfo, resource, remaining);
                 }
             }
         }
@@ -136,7 +154,7 @@ public abstract class Target<HANDLER, RESOURCE> {
             for (HANDLER entry : handlers) {
                 long amountNeeded = simulate(entry, resource, splitInfo.getUnsent());
                 if (amountNeeded != 0) {
-                    needed.add(new HandlerType<>(entry, amountNeeded));
+                    addNeeded(entry, amountNeeded);
                 }
             }
         } else {
@@ -150,39 +168,62 @@ public abstract class Target<HANDLER, RESOURCE> {
                         acceptAmount(entry, splitInfo, resource, amountNeeded);
                     }
                 } else {
-                    needed.add(new HandlerType<>(entry, amountNeeded));
+                    addNeeded(entry, amountNeeded);
                 }
             }
         }
     }
 
+    private void addNeeded(HANDLER handler, long amountNeeded) {
+        neededHandlers.add(handler);
+        neededAmounts.add(amountNeeded);
+        minNeeded = Math.min(minNeeded, amountNeeded);
+    }
+
+    /**
+     * Moves the needed entry at the given index down to the given position, so that the needed lists can be compacted in place while walking them.
+     */
+    private void keepNeeded(HANDLER[] needed, long[] amounts, int index, int position) {
+        if (index != position) {
+            needed[position] = needed[index];
+            amounts[position] = amounts[index];
+        }
+        minNeeded = Math.min(minNeeded, amounts[position]);
+    }
+
+    private void truncateNeeded(int size) {
+        neededHandlers.size(size);
+        neededAmounts.size(size);
+    }
+
     /**
      * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
      *
      * @param splitInfo The new split to (re)check.
      */
     public void shiftNeeded(RESOURCE resource, SplitInfo splitInfo) {
-        if (splitInfo.getShareAmount() == 0) {
+        if (splitInfo.getShareAmount() == 0 || minNeeded > splitInfo.getShareAmount()) {
+            //Nothing can fit under the split, so don't bother checking each needed handler
             return;
         }
-        Iterator<HandlerType<HANDLER>> iterator = needed.iterator();
-        //Use an iterator rather than a copy of the keySet of the needed subMap
-        // This allows for us to remove it once we find it without  having to
-        // start looping again or make a large number of copies of the set
-        while (iterator.hasNext()) {
-            HandlerType<HANDLER> needInfo = iterator.next();
-            long amountNeeded = needInfo.amount();
+        HANDLER[] needed = neededHandlers.elements();
+        long[] amounts = neededAmounts.elements();
+        int size = neededAmounts.size();
+        int kept = 0;
+        minNeeded = Long.MAX_VALUE;
+        //Compact the needed lists in place as we go rather than removing entries from the middle,
+        // so that a single walk both sends to and removes all the handlers that fit
+        for (int i = 0; i < size; i++) {
+            long amountNeeded = amounts[i];
             if (amountNeeded <= splitInfo.getShareAmount()) {
-                acceptAmount(needInfo.handler(), splitInfo, resource, amountNeeded);
-                //Remove it as it has now been sent
-                iterator.remove();
+                acceptAmount(needed[i], splitInfo, resource, amountNeeded);
                 //Continue checking things in case we happen to be
                 // getting things in a bad order so that we don't recheck
                 // the same values many times
+            } else {
+                keepNeeded(needed, amounts, i, kept++);
             }
         }
+        truncateNeeded(kept);
     }
-
-    protected record HandlerType<HANDLER>(HANDLER handler, long amount) {
-    }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package mekanism.common.lib.inventory;
 
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.capabilities.item.CursedTransporterItemHandler;
@@ -45,23 +48,46 @@ public abstract class TransitRequest implements Iterable<ItemData> {
         // count backwards- we start from the bottom of the inventory and go back for consistency
         for (int i = inventory.getSlots() - 1; i >= 0; i--) {
             ItemStack stack = inventory.extractItem(i, max, true);
-
             if (!stack.isEmpty() && finder.test(stack)) {
-                HashedItem hashed = HashedItem.raw(stack);
-                int toUse = Math.min(stack.getCount(), max - ret.getCount(hashed));
-                if (toUse == 0) {
-                    continue; // continue if we don't need any more of this item type
-                }
-                ret.addItem(StackUtils.size(stack, toUse), i);
+                addDefinedItem(ret, stack, i, max);
             }
         }
+        removeBelowMin(ret, min);
+        return ret;
+    }
+
+    /**
+     * Creates a request out of stacks that have already been found by simulating extraction from the inventory.
+     *
+     * @param slots     Slots to request items from, in the order they should be checked.
+     * @param simulated Gets the stack that was simulated to be extracted from a slot. The stack may be larger than {@code max}.
+     */
+    public static TransitRequest definedItem(IItemHandler inventory, int min, int max, IntList slots, IntFunction<ItemStack> simulated) {
+        HandlerTransitRequest ret = new HandlerTransitRequest(inventory);
+        for (IntIterator iterator = slots.iterator(); iterator.hasNext(); ) {
+            int slot = iterator.nextInt();
+            addDefinedItem(ret, simulated.apply(slot), slot, max);
+        }
+        removeBelowMin(ret, min);
+        return ret;
+    }
+
+    private static void addDefinedItem(HandlerTransitRequest request, ItemStack stack, int slot, int max) {
+        HashedItem hashed = HashedItem.raw(stack);
+        int toUse = Math.min(stack.getCount(), max - request.getCount(hashed));
+        //Note: If toUse is zero, we don't need any more of this item type
+        if (toUse > 0) {
+            request.addItem(StackUtils.size(stack, toUse), slot);
+        }
+    }
+
+    private static void removeBelowMin(HandlerTransitRequest request, int min) {
         // remove items that we don't have enough of
-        for (Iterator<ItemData> iterator = ret.iterator(); iterator.hasNext(); ) {
+        for (Iterator<ItemData> iterator = request.iterator(); iterator.hasNext(); ) {
             if (iterator.next().getTotalCount() < min) {
                 iterator.remove();
             }
         }
-        return ret;
     }
 
     @NotNull
@@ -26,6 +26,7 @@ import mekanism.api.heat.HeatAPI;
 import mekanism.api.heat.IHeatCapacitor;
 import mekanism.api.inventory.IInventorySlot;
 import mekanism.api.inventory.IMekanismInventory;
+import mekanism.common.capabilities.heat.AmbientTemperatureLookup;
 import mekanism.common.capabilities.heat.ITileHeatHandler;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.energy.BlockEnergyCapabilityCache;
@@ -97,6 +98,11 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     private final BiPredicate<Object, @NotNull AutomationType> notExternalFormedBiPred = (t, automationType) -> automationType != AutomationType.EXTERNAL && isFormed();
 
     private boolean dirty;
+    /**
+     * What {@link #writeUpdateTag(CompoundTag, HolderLookup.Provider)} wrote the last time the update tag was needed, or null if it needs to be written again.
+     */
+    @Nullable
+    private CompoundTag cachedUpdateTag;
 
     public MultiblockData(BlockEntity tile) {
         remoteSupplier = () -> tile.getLevel().isClientSide();
@@ -136,6 +142,14 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
 
     public void markDirty() {
         dirty = true;
+        clearCachedUpdateTag();
+    }
+
+    /**
+     * Marks that the data the client needs to render the multiblock has changed, so that the update tag gets written again the next time it is needed.
+     */
+    public void clearCachedUpdateTag() {
+        cachedUpdateTag = null;
     }
 
     /**
@@ -185,7 +199,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         }
         double sum = 0;
         for (BlockPos pos : positions) {
-            sum += world.getBiome(pos).value().getTemperature(pos);
+            sum += AmbientTemperatureLookup.getBiomeTemp(world, pos);
         }
         return sum / positions.length;
     }
@@ -280,6 +294,24 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         NBTUtils.setUUIDIfPresentElse(tag, SerializationConstants.INVENTORY_ID, value -> inventoryID = value, () -> inventoryID = null);
     }
 
+    /**
+     * Adds the data the client needs to render the multiblock to the given tag. The data is only written again after the contents change, the structure changes, or a
+     * tick reports that an update packet is needed, and is shared by every update tag and packet that is sent for the multiblock until then.
+     *
+     * @implNote Anything that changes the data written in {@link #writeUpdateTag(CompoundTag, HolderLookup.Provider)} without marking the multiblock as dirty must
+     * either have {@link #tick(Level)} return {@code true} or call {@link #clearCachedUpdateTag()}, or the change won't be included until one of them happens.
+     */
+    public final void writeCachedUpdateTag(CompoundTag tag, HolderLookup.Provider provider) {
+        if (cachedUpdateTag == null) {
+            cachedUpdateTag = new CompoundTag();
+            writeUpdateTag(cachedUpdateTag, provider);
+        }
+        for (String key : cachedUpdateTag.getAllKeys()) {
+            //Note: We copy the tags so that nothing that reads or modifies the update tag can change the cached one
+            tag.put(key, cachedUpdateTag.get(key).copy());
+        }
+    }
+
     public void writeUpdateTag(CompoundTag tag, HolderLookup.Provider provider) {
         tag.putInt(SerializationConstants.VOLUME, getVolume());
         if (renderLocation != null) {//In theory this shouldn't be null here but check it anyway
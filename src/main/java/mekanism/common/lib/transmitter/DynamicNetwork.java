@@ -144,7 +144,6 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public List<TRANSMITTER> adoptTransmittersAndAcceptorsFrom(NETWORK net) {
-        positionedTransmitters.putAll(net.positionedTransmitters);
         List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
         for (Long2ObjectMap.Entry<TRANSMITTER> entry : net.positionedTransmitters.long2ObjectEntrySet()) {
             TRANSMITTER transmitter = entry.getValue();
@@ -1,20 +1,20 @@
 package mekanism.common.lib.transmitter;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.Collection;
-import java.util.Deque;
-import java.util.LinkedList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.Transmitter;
@@ -25,7 +25,9 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -37,8 +39,9 @@ import org.jetbrains.annotations.Nullable;
 @EventBusSubscriber(modid = Mekanism.MODID)
 public class TransmitterNetworkRegistry {
 
-    private static final Multimap<Chunk3D, Transmitter<?, ?, ?>> transmitters = HashMultimap.create();
-    private static Object2BooleanMap<Chunk3D> changedTicketChunks = new Object2BooleanOpenHashMap<>();
+    //Note: Transmitters and changed chunks are tracked per dimension, keyed by the packed position of the chunk they are in
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Set<Transmitter<?, ?, ?>>>> transmitters = new Reference2ObjectOpenHashMap<>();
+    private static Map<ResourceKey<Level>, Long2BooleanMap> changedTicketChunks = new Reference2ObjectOpenHashMap<>();
     private static final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
     private static final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
     private static Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
@@ -74,11 +77,26 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
-        transmitters.put(transmitter.getTileChunk(), transmitter);
+        GlobalPos coord = transmitter.getTileGlobalPos();
+        transmitters.computeIfAbsent(coord.dimension(), dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(coord.pos()), chunk -> new ReferenceOpenHashSet<>())
+              .add(transmitter);
     }
 
     public static void untrackTransmitter(Transmitter<?, ?, ?> transmitter) {
-        transmitters.remove(transmitter.getTileChunk(), transmitter);
+        GlobalPos coord = transmitter.getTileGlobalPos();
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> dimensionTransmitters = transmitters.get(coord.dimension());
+        if (dimensionTransmitters != null) {
+            long chunk = ChunkPos.asLong(coord.pos());
+            Set<Transmitter<?, ?, ?>> chunkTransmitters = dimensionTransmitters.get(chunk);
+            if (chunkTransmitters != null && chunkTransmitters.remove(transmitter) && chunkTransmitters.isEmpty()) {
+                //Remove empty chunks so that we don't bother tracking ticket changes for chunks that no longer have any transmitters
+                dimensionTransmitters.remove(chunk);
+                if (dimensionTransmitters.isEmpty()) {
+                    transmitters.remove(coord.dimension());
+                }
+            }
+        }
     }
 
     public static void invalidateTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -145,38 +163,50 @@ public class TransmitterNetworkRegistry {
             //Load type stayed the same, just exit
             return;
         }
-        Chunk3D chunk = new Chunk3D(event.getLevel().dimension(), event.getChunkPos());
-        if (transmitters.containsKey(chunk)) {
+        ResourceKey<Level> dimension = event.getLevel().dimension();
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> dimensionTransmitters = transmitters.get(dimension);
+        long chunk = event.getChunkPos();
+        if (dimensionTransmitters != null && dimensionTransmitters.containsKey(chunk)) {
             //Only track it if we have any transmitters in that chunk
-            if (changedTicketChunks.getOrDefault(chunk, loaded) != loaded) {
+            Long2BooleanMap changedChunks = changedTicketChunks.computeIfAbsent(dimension, dim -> new Long2BooleanOpenHashMap());
+            if (changedChunks.containsKey(chunk) && changedChunks.get(chunk) != loaded) {
                 //If we are watching the chunk and the loaded state isn't what we already had it as,
                 // then remove it as it didn't actually change. In theory in all cases this is equivalent
                 // to just checking if changeTicketChunks contains chunk, but is slightly more accurate
                 // in case for some reason we get two load or unload notifications in a row
-                changedTicketChunks.removeBoolean(chunk);
+                changedChunks.remove(chunk);
             } else {
                 // Otherwise, make sure the map is aware of the change
-                changedTicketChunks.put(chunk, loaded);
+                changedChunks.put(chunk, loaded);
             }
         }
     }
 
     private static void handleChangedChunks() {
         if (!changedTicketChunks.isEmpty()) {
-            Object2BooleanMap<Chunk3D> changed = changedTicketChunks;
-            changedTicketChunks = new Object2BooleanOpenHashMap<>();
-            if (MekanismAPI.debug) {
-                Mekanism.logger.info("Dealing with {} changed chunks", changed.size());
-            }
-            for (Object2BooleanMap.Entry<Chunk3D> entry : changed.object2BooleanEntrySet()) {
-                Chunk3D chunk = entry.getKey();
-                boolean loaded = entry.getBooleanValue();
-                Collection<Transmitter<?, ?, ?>> chunkTransmitters = transmitters.get(chunk);
-                for (Transmitter<?, ?, ?> transmitter : chunkTransmitters) {
-                    transmitter.getTransmitterTile().chunkAccessibilityChange(loaded);
-                }
+            Map<ResourceKey<Level>, Long2BooleanMap> changed = changedTicketChunks;
+            changedTicketChunks = new Reference2ObjectOpenHashMap<>();
+            for (Map.Entry<ResourceKey<Level>, Long2BooleanMap> dimensionEntry : changed.entrySet()) {
+                Long2BooleanMap changedChunks = dimensionEntry.getValue();
                 if (MekanismAPI.debug) {
-                    Mekanism.logger.info("{} {} transmitters in chunk: {}, {}", loaded ? "Loaded" : "Unloaded", chunkTransmitters.size(), chunk.x, chunk.z);
+                    Mekanism.logger.info("Dealing with {} changed chunks in {}", changedChunks.size(), dimensionEntry.getKey().location());
+                }
+                Long2ObjectMap<Set<Transmitter<?, ?, ?>>> dimensionTransmitters = transmitters.getOrDefault(dimensionEntry.getKey(), Long2ObjectMaps.emptyMap());
+                for (Long2BooleanMap.Entry entry : changedChunks.long2BooleanEntrySet()) {
+                    long chunk = entry.getLongKey();
+                    boolean loaded = entry.getBooleanValue();
+                    Set<Transmitter<?, ?, ?>> chunkTransmitters = dimensionTransmitters.get(chunk);
+                    if (chunkTransmitters == null) {
+                        //All the transmitters in the chunk were removed since the ticket level changed
+                        continue;
+                    }
+                    for (Transmitter<?, ?, ?> transmitter : chunkTransmitters) {
+                        transmitter.getTransmitterTile().chunkAccessibilityChange(loaded);
+                    }
+                    if (MekanismAPI.debug) {
+                        Mekanism.logger.info("{} {} transmitters in chunk: {}, {}", loaded ? "Loaded" : "Unloaded", chunkTransmitters.size(), ChunkPos.getX(chunk),
+                              ChunkPos.getZ(chunk));
+                    }
                 }
             }
         }
@@ -222,10 +252,17 @@ public class TransmitterNetworkRegistry {
                 Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
             }
 
-            for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
+            //Group the orphans by dimension and packed position, so that the path finders can look them up without having to create a GlobalPos for each position
+            Map<ResourceKey<Level>, Long2ObjectMap<Transmitter<?, ?, ?>>> orphansByDimension = new Reference2ObjectOpenHashMap<>();
+            for (Map.Entry<GlobalPos, Transmitter<?, ?, ?>> entry : orphanTransmitters.entrySet()) {
+                GlobalPos coord = entry.getKey();
+                orphansByDimension.computeIfAbsent(coord.dimension(), dimension -> new Long2ObjectOpenHashMap<>()).put(coord.pos().asLong(), entry.getValue());
+            }
+            for (Map.Entry<GlobalPos, Transmitter<?, ?, ?>> entry : orphanTransmitters.entrySet()) {
+                Transmitter<?, ?, ?> orphanTransmitter = entry.getValue();
                 if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
                     OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
-                    networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+                    networksToChange.add(finder.getNetworkFromOrphan(orphansByDimension.get(entry.getKey().dimension())));
                 }
             }
         }
@@ -262,8 +299,8 @@ public class TransmitterNetworkRegistry {
         private final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final LongSet iterated = new LongOpenHashSet();
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
         private final TRANSMITTER startPoint;
         private final Level world;
 
@@ -273,15 +310,15 @@ public class TransmitterNetworkRegistry {
             transmitterValidator = startPoint.getNewOrphanValidator();
         }
 
-        NETWORK getNetworkFromOrphan(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters) {
+        NETWORK getNetworkFromOrphan(Long2ObjectMap<Transmitter<?, ?, ?>> orphanTransmitters) {
             //Calculate the network
-            if (queue.peek() != null) {
+            if (!queue.isEmpty()) {
                 Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
                 queue.clear();
             }
-            queue.push(startPoint.getBlockPos());
-            while (queue.peek() != null) {
-                iterate(orphanTransmitters, queue.removeFirst());
+            queue.enqueue(startPoint.getWorldPositionLong());
+            while (!queue.isEmpty()) {
+                iterate(orphanTransmitters, queue.dequeueLong());
             }
             //Create the network or grab the found ones
             NETWORK network;
@@ -290,25 +327,34 @@ public class TransmitterNetworkRegistry {
                     Mekanism.logger.info("Adding {} transmitters to single found network", connectedTransmitters.size());
                 }
                 network = networksFound.iterator().next();
+            } else if (networksFound.isEmpty()) {
+                if (MekanismAPI.debug) {
+                    Mekanism.logger.info("No networks found. Creating new network for {} transmitters", connectedTransmitters.size());
+                }
+                network = startPoint.createNetworkByMerging(networksFound);
             } else {
                 if (MekanismAPI.debug) {
-                    if (networksFound.isEmpty()) {
-                        Mekanism.logger.info("No networks found. Creating new network for {} transmitters", connectedTransmitters.size());
-                    } else {
-                        Mekanism.logger.info("Merging {} networks with {} new transmitters", networksFound.size(), connectedTransmitters.size());
+                    Mekanism.logger.info("Merging {} networks with {} new transmitters", networksFound.size(), connectedTransmitters.size());
+                }
+                //Merge the smaller networks into the largest one, so that we only have to move the transmitters of the smaller networks
+                // rather than copying every transmitter into a brand-new network
+                network = null;
+                for (NETWORK found : networksFound) {
+                    if (network == null || found.transmittersSize() > network.transmittersSize()) {
+                        network = found;
                     }
                 }
-                //TODO: Should we take one of the existing network's uuids if there is one?
-                network = startPoint.createNetworkByMerging(networksFound);
+                networksFound.remove(network);
+                network.adoptAllAndRegister(networksFound);
             }
             network.addNewTransmitters(connectedTransmitters, transmitterValidator);
             return network;
         }
 
-        private void iterate(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from) {
-            if (iterated.add(from)) {
-                GlobalPos fromCoord = GlobalPos.of(world.dimension(), from);
-                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
+        private void iterate(Long2ObjectMap<Transmitter<?, ?, ?>> orphanTransmitters, long fromPos) {
+            if (iterated.add(fromPos)) {
+                BlockPos from = BlockPos.of(fromPos);
+                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromPos);
                 if (transmitter != null) {
                     if (transmitter.isValid() && transmitter.isOrphan() && startPoint.supportsTransmissionType(transmitter) &&
                         transmitterValidator.isTransmitterCompatible(transmitter)) {
@@ -317,10 +363,11 @@ public class TransmitterNetworkRegistry {
                         BlockPos.MutableBlockPos directionPos = new BlockPos.MutableBlockPos();
                         for (Direction direction : EnumUtils.DIRECTIONS) {
                             directionPos.setWithOffset(from, direction);
-                            if (!iterated.contains(directionPos)) {
+                            long directionPosLong = directionPos.asLong();
+                            if (!iterated.contains(directionPosLong)) {
                                 TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos);
                                 if (tile != null && transmitter.isValidTransmitterBasic(tile, direction)) {
-                                    queue.addLast(directionPos.immutable());
+                                    queue.enqueue(directionPosLong);
                                 }
                             }
                         }
@@ -21,6 +21,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Long2ObjectMap<Map<Direction, ACCEPTOR>> cachedAcceptors = new Long2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    private final SaturatedAcceptors<ACCEPTOR> saturatedAcceptors = new SaturatedAcceptors<>();
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
@@ -56,6 +57,8 @@ public class NetworkAcceptorCache<ACCEPTOR> {
                 changedAcceptors.put(transmitter, entry.getValue());
             }
         }
+        //Note: Our acceptors changed, so we need to check them all again
+        saturatedAcceptors.clear();
     }
 
     public void acceptorChanged(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
@@ -75,12 +78,23 @@ public class NetworkAcceptorCache<ACCEPTOR> {
                 }
             }
             changedAcceptors.clear();
+            saturatedAcceptors.clear();
         }
     }
 
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        saturatedAcceptors.clear();
+    }
+
+    /**
+     * {@return the acceptors that have been refusing what the network is emitting}
+     *
+     * @apiNote Networks are responsible for clearing this when the type they emit changes.
+     */
+    public SaturatedAcceptors<ACCEPTOR> getSaturatedAcceptors() {
+        return saturatedAcceptors;
     }
 
     /**
@@ -0,0 +1,69 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the acceptors of a network that have been refusing the contents the network is emitting, such as tanks that are full or machines that can't accept
+ * the type, so that the network doesn't have to simulate inserting into them every single tick.
+ *
+ * @implNote Acceptors are compared by identity, and we have no way of being notified when an acceptor's contents change. Instead, each time an acceptor refuses the
+ * contents, the number of emits it is skipped for is doubled, up to {@link #MAX_DELAY}, and it is only forgotten about once it accepts again. The tracked acceptors
+ * must be {@link #clear() cleared} whenever the type being emitted or the acceptors of the network change.
+ */
+public class SaturatedAcceptors<ACCEPTOR> {
+
+    /**
+     * Maximum number of emits in a row that an acceptor may be skipped for.
+     */
+    private static final int MAX_DELAY = 20;
+
+    private final Map<ACCEPTOR, Backoff> saturated = new Reference2ObjectOpenHashMap<>();
+    private long emitCount;
+
+    /**
+     * Marks that the network is starting to emit, and that acceptors that have been skipped for long enough should be checked again.
+     */
+    public void startEmit() {
+        emitCount++;
+    }
+
+    /**
+     * {@return true if the given acceptor refused the contents recently enough that it should not be checked this emit}
+     */
+    public boolean isSkipped(ACCEPTOR acceptor) {
+        Backoff backoff = saturated.get(acceptor);
+        return backoff != null && backoff.retryAt > emitCount;
+    }
+
+    public void accepted(ACCEPTOR acceptor) {
+        if (!saturated.isEmpty()) {
+            saturated.remove(acceptor);
+        }
+    }
+
+    public void refused(ACCEPTOR acceptor) {
+        Backoff backoff = saturated.get(acceptor);
+        if (backoff == null) {
+            //Note: We check acceptors again the next emit after they refuse for the first time, so that acceptors that were only full for a single tick don't get skipped
+            saturated.put(acceptor, new Backoff(emitCount + 1));
+        } else {
+            backoff.delay = Math.min(2 * backoff.delay, MAX_DELAY);
+            backoff.retryAt = emitCount + backoff.delay;
+        }
+    }
+
+    public void clear() {
+        saturated.clear();
+    }
+
+    private static class Backoff {
+
+        private long retryAt;
+        private int delay = 1;
+
+        private Backoff(long retryAt) {
+            this.retryAt = retryAt;
+        }
+    }
+}
@@ -79,6 +79,15 @@ public interface IRecipeLookupHandler<RECIPE extends MekanismRecipe<?>> extends
     default void clearRecipeErrors(int cacheIndex) {
     }
 
+    /**
+     * Called when the contents the recipe at the given index depends on have changed, so that handlers that defer processing ticks can process them straight away
+     * rather than against contents that may change again before they would otherwise have been processed.
+     *
+     * @param cacheIndex The "recipe index" for which cache to interact with.
+     */
+    default void processDeferredTicks(int cacheIndex) {
+    }
+
     /**
      * Helper class that specifies the input cache's type for the recipe type. The reason it isn't defined in the main {@link IRecipeLookupHandler} is it isn't needed and
      * would just make the class definitions a lot messier with very long generics that can be folded away into the helper interfaces we use anyway ofr actual lookup
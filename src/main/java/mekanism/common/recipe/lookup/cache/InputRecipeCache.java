@@ -11,6 +11,9 @@ import mekanism.api.recipes.ingredients.FluidStackIngredient;
 import mekanism.api.recipes.ingredients.ItemStackIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.cache.DoubleInputRecipeCache.DoubleSameInputRecipeCache;
+import mekanism.common.recipe.lookup.cache.RecipeLookupMemo.ChemicalKey;
+import mekanism.common.recipe.lookup.cache.RecipeLookupMemo.FluidKey;
+import mekanism.common.recipe.lookup.cache.RecipeLookupMemo.ItemKey;
 import mekanism.common.recipe.lookup.cache.type.ChemicalInputCache;
 import mekanism.common.recipe.lookup.cache.type.FluidInputCache;
 import mekanism.common.recipe.lookup.cache.type.ItemInputCache;
@@ -24,7 +27,7 @@ public class InputRecipeCache {
           extends SingleInputRecipeCache<ItemStack, ItemStackIngredient, RECIPE, ItemInputCache<RECIPE>> {
 
         public SingleItem(MekanismRecipeType<?, RECIPE, ?> recipeType, Function<RECIPE, ItemStackIngredient> inputExtractor) {
-            super(recipeType, inputExtractor, new ItemInputCache<>());
+            super(recipeType, inputExtractor, new ItemInputCache<>(), ItemKey::create);
         }
     }
 
@@ -32,7 +35,7 @@ public class InputRecipeCache {
           extends SingleInputRecipeCache<FluidStack, FluidStackIngredient, RECIPE, FluidInputCache<RECIPE>> {
 
         public SingleFluid(MekanismRecipeType<?, RECIPE, ?> recipeType, Function<RECIPE, FluidStackIngredient> inputExtractor) {
-            super(recipeType, inputExtractor, new FluidInputCache<>());
+            super(recipeType, inputExtractor, new FluidInputCache<>(), FluidKey::create);
         }
     }
 
@@ -40,7 +43,7 @@ public class InputRecipeCache {
           extends SingleInputRecipeCache<ChemicalStack, ChemicalStackIngredient, RECIPE, ChemicalInputCache<RECIPE>> {
 
         public SingleChemical(MekanismRecipeType<?, RECIPE, ?> recipeType, Function<RECIPE, ChemicalStackIngredient> inputExtractor) {
-            super(recipeType, inputExtractor, new ChemicalInputCache<>());
+            super(recipeType, inputExtractor, new ChemicalInputCache<>(), ChemicalKey::create);
         }
     }
 
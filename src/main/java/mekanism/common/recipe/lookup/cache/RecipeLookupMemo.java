@@ -0,0 +1,168 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.fluids.FluidStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded memo of the recipes whose input matches a given input type, so that machines with the same type of input don't all have to resolve it independently. As the
+ * recipe types are shared by the entire server, so is the memo.
+ *
+ * @implNote Keys only include the type and components of the input and not its size, so that inputs of different sizes share an entry. Each remembered candidate is
+ * still tested against the actual input in the order the full lookup would check them in, so the result is always the same as if no memo was used. Lookups from the
+ * client are not memoized, but as the client may clear the recipe caches while an integrated server is running, access to the memo is still synchronized.
+ */
+public class RecipeLookupMemo<INPUT, RECIPE extends Predicate<INPUT>> {
+
+    /**
+     * Maximum number of input types to remember the candidates for, after which the least recently used entry will be evicted.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    private final Function<INPUT, LookupKey> keyCreator;
+    private final Map<LookupKey, List<RECIPE>> results = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LookupKey, List<RECIPE>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private long hits;
+    private long misses;
+
+    public RecipeLookupMemo(Function<INPUT, LookupKey> keyCreator) {
+        this.keyCreator = keyCreator;
+    }
+
+    /**
+     * @param candidateLookup Used to find the recipes whose input matches the type of the input, ignoring the size requirement, if they aren't known yet. The recipes
+     *                        must be in the order they should be checked in.
+     *
+     * @return The first candidate that matches the given input, or {@code null} if none do.
+     */
+    @Nullable
+    public RECIPE find(@Nullable Level level, INPUT input, Function<INPUT, List<RECIPE>> candidateLookup) {
+        List<RECIPE> candidates;
+        if (level == null || level.isClientSide()) {
+            candidates = candidateLookup.apply(input);
+        } else {
+            LookupKey key = keyCreator.apply(input);
+            synchronized (this) {
+                candidates = results.get(key);
+                if (candidates == null) {
+                    misses++;
+                    candidates = candidateLookup.apply(input);
+                    results.put(key.storable(), candidates);
+                } else {
+                    hits++;
+                }
+            }
+        }
+        for (RECIPE candidate : candidates) {
+            if (candidate.test(input)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public synchronized void clear() {
+        results.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * {@return the fraction of lookups since the last reload that were served from the memo}
+     */
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : hits / (double) total;
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    public interface LookupKey {
+
+        /**
+         * {@return a copy of this key that does not reference the input it was created from, so that it is safe to store}
+         */
+        LookupKey storable();
+    }
+
+    public record ItemKey(HashedItem item) implements LookupKey {
+
+        public static ItemKey create(ItemStack stack) {
+            return new ItemKey(HashedItem.raw(stack));
+        }
+
+        @Override
+        public LookupKey storable() {
+            return new ItemKey(item.recreate());
+        }
+    }
+
+    public record ChemicalKey(Chemical chemical) implements LookupKey {
+
+        public static ChemicalKey create(ChemicalStack stack) {
+            return new ChemicalKey(stack.getChemical());
+        }
+
+        @Override
+        public LookupKey storable() {
+            //Already immutable
+            return this;
+        }
+    }
+
+    public static final class FluidKey implements LookupKey {
+
+        private final FluidStack stack;
+        private final int hashCode;
+
+        private FluidKey(FluidStack stack, int hashCode) {
+            this.stack = stack;
+            this.hashCode = hashCode;
+        }
+
+        public static FluidKey create(FluidStack stack) {
+            return new FluidKey(stack, FluidStack.hashFluidAndComponents(stack));
+        }
+
+        @Override
+        public LookupKey storable() {
+            return new FluidKey(stack.copyWithAmount(1), hashCode);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            return o instanceof FluidKey other && FluidStack.isSameFluidSameComponents(stack, other.stack);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -8,6 +9,7 @@ import java.util.function.Predicate;
 import mekanism.api.functions.ConstantPredicates;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
+import mekanism.common.Mekanism;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.cache.type.IInputCache;
 import net.minecraft.world.item.crafting.RecipeHolder;
@@ -24,11 +26,14 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
     private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT> inputExtractor;
     private final CACHE cache;
+    private final RecipeLookupMemo<INPUT, RECIPE> lookupMemo;
 
-    protected SingleInputRecipeCache(MekanismRecipeType<?, RECIPE, ?> recipeType, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache) {
+    protected SingleInputRecipeCache(MekanismRecipeType<?, RECIPE, ?> recipeType, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache,
+          Function<INPUT, RecipeLookupMemo.LookupKey> memoKeyCreator) {
         super(recipeType);
         this.inputExtractor = inputExtractor;
         this.cache = cache;
+        this.lookupMemo = new RecipeLookupMemo<>(memoKeyCreator);
     }
 
     @Override
@@ -36,6 +41,21 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         super.clear();
         cache.clear();
         complexRecipes.clear();
+        long lookups = lookupMemo.getHits() + lookupMemo.getMisses();
+        if (lookups > 0) {
+            Mekanism.logger.debug("Recipe lookup memo for {} served {} of {} lookups ({} input types remembered).", recipeType, lookupMemo.getHits(), lookups,
+                  lookupMemo.size());
+        }
+        lookupMemo.clear();
+    }
+
+    /**
+     * {@return the memo of candidate recipes used by {@link #findFirstRecipe(Level, Object)}, mainly for checking how effective it is}
+     *
+     * @implNote The memo's counters are logged at debug level whenever the recipe caches are cleared.
+     */
+    public RecipeLookupMemo<INPUT, RECIPE> getLookupMemo() {
+        return lookupMemo;
     }
 
     /**
@@ -65,18 +85,25 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
-        RECIPE recipe = findFirstRecipe(input, cache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexRecipes) : recipe;
+        return lookupMemo.find(world, input, this::findTypeCandidates);
     }
 
-    @Nullable
-    private RECIPE findFirstRecipe(INPUT input, Iterable<RECIPE> recipes) {
+    /**
+     * {@return all recipes whose input matches the type of the given input ignoring the size requirement, in the order they should be checked in}
+     */
+    private List<RECIPE> findTypeCandidates(INPUT input) {
+        List<RECIPE> candidates = new ArrayList<>();
+        addTypeCandidates(input, cache.getRecipes(input), candidates);
+        addTypeCandidates(input, complexRecipes, candidates);
+        return candidates;
+    }
+
+    private void addTypeCandidates(INPUT input, Iterable<RECIPE> recipes, List<RECIPE> candidates) {
         for (RECIPE recipe : recipes) {
-            if (recipe.test(input)) {
-                return recipe;
+            if (inputExtractor.apply(recipe).testType(input)) {
+                candidates.add(recipe);
             }
         }
-        return null;
     }
 
     /**
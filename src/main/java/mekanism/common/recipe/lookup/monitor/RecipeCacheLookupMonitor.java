@@ -45,9 +45,30 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
     }
 
     public void unpause() {
+        //Let the handler catch up on any ticks it deferred before anything else uses the changed contents
+        handler.processDeferredTicks(cacheIndex);
         shouldUnpause = true;
     }
 
+    /**
+     * Marks that the recipe should be unpaused because energy was received, without having the handler process any ticks it deferred.
+     *
+     * @apiNote Handlers only defer ticks they already have the energy stored for, so receiving more energy can't change whether those ticks would have been processed.
+     */
+    public void unpauseForEnergy() {
+        shouldUnpause = true;
+    }
+
+    /**
+     * {@return true if processing can't continue until the contents this monitor is listening to change}
+     */
+    public boolean isBlocked() {
+        if (shouldUnpause) {
+            return false;
+        }
+        return cachedRecipe == null ? hasNoRecipe : cachedRecipe.isPausedForErrors();
+    }
+
     /**
      * Helper that wraps {@link #updateAndProcess()} inside of a brief check to calculate how much energy actually got used.
      */
@@ -64,6 +85,23 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
     }
 
     public boolean updateAndProcess() {
+        if (updateCachedRecipe()) {
+            cachedRecipe.process();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Processes the given number of ticks at once. See {@link CachedRecipe#process(int)} for the conditions under which this is equivalent to processing every tick.
+     *
+     * @return the number of ticks that performed at least one operation.
+     */
+    public int updateAndProcess(int ticks) {
+        return updateCachedRecipe() ? cachedRecipe.process(ticks) : 0;
+    }
+
+    private boolean updateCachedRecipe() {
         CachedRecipe<RECIPE> oldCache = cachedRecipe;
         cachedRecipe = getUpdatedCache(cacheIndex);
         if (cachedRecipe != oldCache) {
@@ -74,7 +112,6 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
                 shouldUnpause = false;
                 cachedRecipe.unpauseErrors();
             }
-            cachedRecipe.process();
             return true;
         }
         return false;
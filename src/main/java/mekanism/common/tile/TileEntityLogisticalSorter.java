@@ -7,6 +7,7 @@ import mekanism.api.RelativeSide;
 import mekanism.api.SerializationConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.attachments.containers.ContainerType;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
@@ -15,6 +16,7 @@ import mekanism.common.capabilities.item.CursedTransporterItemHandler;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.SortableFilterManager;
 import mekanism.common.content.transporter.SorterFilter;
+import mekanism.common.content.transporter.SorterFilterIndex;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
@@ -23,7 +25,6 @@ import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.container.sync.SyncableInt;
 import mekanism.common.inventory.slot.InternalInventorySlot;
 import mekanism.common.lib.SidedBlockPos;
-import mekanism.common.lib.inventory.Finder;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -47,7 +48,6 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -59,15 +59,9 @@ import org.jetbrains.annotations.Nullable;
 public class TileEntityLogisticalSorter extends TileEntityMekanism implements ITileFilterHolder<SorterFilter<?>>, IAdvancedTransportEjector {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private final SortableFilterManager<SorterFilter<?>> filterManager = new SortableFilterManager<SorterFilter<?>>((Class) SorterFilter.class, this::markForSave);
-    private final Finder strictFinder = stack -> {
-        for (SorterFilter<?> filter : filterManager.getEnabledFilters()) {
-            if (!filter.allowDefault && filter.getFinder().test(stack)) {
-                return false;
-            }
-        }
-        return true;
-    };
+    private final SortableFilterManager<SorterFilter<?>> filterManager = new SortableFilterManager<SorterFilter<?>>((Class) SorterFilter.class, this::onFiltersChanged);
+    @Nullable
+    private SorterFilterIndex filterIndex;
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> homeInventory;
@@ -107,6 +101,10 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IT
     @Override
     protected boolean onUpdateServer() {
         boolean sendUpdatePacket = super.onUpdateServer();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Note: We have to do this every tick rather than only when we scan, as the flag is only set for a single tick
+            filterIndex = null;
+        }
         delayTicks = Math.max(0, delayTicks - 1);
         if (delayTicks == 6) {
             setActive(false);
@@ -122,12 +120,19 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IT
                 }
                 IItemHandler frontCap = targetInventory.getCapability();
                 if (frontCap != null) {
+                    if (filterIndex == null) {
+                        filterIndex = new SorterFilterIndex(filterManager.getEnabledFilters());
+                    }
+                    //Scan the inventory once, rather than once per filter, and then build the requests for each filter from what we found
+                    filterIndex.scan(back);
                     boolean sentItems = false;
-                    for (SorterFilter<?> filter : filterManager.getEnabledFilters()) {
-                        TransitRequest request = filter.mapInventory(back, singleItem);
+                    List<SorterFilter<?>> filters = filterIndex.getFilters();
+                    for (int i = 0, size = filters.size(); i < size; i++) {
+                        TransitRequest request = filterIndex.createRequest(back, i, singleItem);
                         if (request.isEmpty()) {
                             continue;
                         }
+                        SorterFilter<?> filter = filters.get(i);
                         int min = singleItem ? 1 : filter.sizeMode ? filter.min : 0;
                         TransitResponse response = emitItemToTransporter(frontCap, request, filter.color, min);
                         if (!response.isEmpty()) {
@@ -139,8 +144,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IT
                     }
 
                     if (!sentItems && autoEject) {
-                        //TODO - 1.21: Evaluate if this (and SorterFilter#mapInventory) should use a stack's max stack size or the absolute stack size
-                        TransitRequest request = TransitRequest.definedItem(back, singleItem ? 1 : Item.ABSOLUTE_MAX_STACK_SIZE, strictFinder);
+                        TransitRequest request = filterIndex.createDefaultRequest(back, singleItem);
                         TransitResponse response = emitItemToTransporter(frontCap, request, color, 0);
                         if (!response.isEmpty()) {
                             response.useAll();
@@ -154,6 +158,11 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IT
         return sendUpdatePacket;
     }
 
+    private void onFiltersChanged() {
+        markForSave();
+        filterIndex = null;
+    }
+
     private TransitResponse emitItemToTransporter(IItemHandler target, TransitRequest request, EnumColor filterColor, int min) {
         if (request.isEmpty()) {
             return request.getEmptyResponse();
@@ -334,6 +343,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IT
         roundRobin = dataMap.getBoolean(SerializationConstants.ROUND_ROBIN);
         singleItem = dataMap.getBoolean(SerializationConstants.SINGLE_ITEM);
         filterManager.readFromNBT(provider, dataMap);
+        filterIndex = null;
     }
 
     @Override
@@ -35,6 +35,7 @@ import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.api.security.SecurityMode;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.FilterAware;
 import mekanism.common.attachments.containers.ContainerType;
@@ -255,6 +256,17 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     protected IntSupplier delaySupplier = MekanismConfig.general.blockDeactivationDelay;
     //End variables ITileActive
 
+    //Variables for handling dormancy
+    /**
+     * Whether this tile has nothing to do, and should skip ticking on the server until something about it changes.
+     */
+    private boolean dormant;
+    /**
+     * Whether anything about this tile changed since the start of its current server tick.
+     */
+    private boolean changedThisTick;
+    //End variables for dormancy
+
     //Variables for handling ITileSound
     @Nullable
     protected final Supplier<SoundEvent> soundEvent;
@@ -624,6 +636,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        if (tile.dormant) {
+            if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                return;
+            }
+            //Wake up so that we can invalidate anything we cached about the recipes
+            tile.dormant = false;
+        }
+        tile.changedThisTick = false;
         tile.frequencyComponent.tickServer(level, pos);
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
@@ -668,11 +688,48 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         if (sendUpdatePacket) {
             tile.sendUpdatePacket();
+        } else if (!tile.changedThisTick && tile.canBecomeDormant()) {
+            tile.dormant = true;
         }
     }
 
+    /**
+     * Checks if this tile has nothing to do until something about it changes, in which case it stops ticking on the server. This is only checked after a tick in which
+     * nothing about the tile changed. Dormant tiles are woken up when they get marked as changed (which includes any of their containers changing), their redstone
+     * state or neighbors change, a player opens them, or recipes get reloaded.
+     *
+     * @implNote Defaults to {@code false}. Only return {@code true} if all the per tick logic of the tile only has work to do after it has been marked as changed. While
+     * dormant, updates to the tile's security frequency will not be picked up until it wakes up.
+     */
+    protected boolean canBecomeDormant() {
+        return false;
+    }
+
+    /**
+     * Checks that none of the logic {@link #tickServer(Level, BlockPos, BlockState, TileEntityMekanism)} performs before calling {@link #onUpdateServer()} has any work
+     * left to do.
+     */
+    protected final boolean hasNoPendingBaseWork() {
+        return playersUsing.isEmpty() && updateDelay == 0 && !updateComparators && !hasChunkloader && !canHandleHeat() && (!supportsUpgrades() || upgradeComponent.isIdle());
+    }
+
+    /**
+     * Wakes this tile up if it is dormant.
+     */
+    public final void wakeUp() {
+        dormant = false;
+        changedThisTick = true;
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        wakeUp();
+    }
+
     public void open(Player player) {
         playersUsing.add(player);
+        wakeUp();
     }
 
     public void close(Player player) {
@@ -973,6 +1030,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
+            wakeUp();
             updatePower();
         }
     }
@@ -1089,6 +1147,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             boolean power = level.hasNeighborSignal(getBlockPos());
             if (redstone != power) {
                 redstone = power;
+                wakeUp();
                 onPowerChange();
             }
         }
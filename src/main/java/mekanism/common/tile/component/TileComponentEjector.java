@@ -20,6 +20,7 @@ import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
 import mekanism.common.attachments.component.AttachedEjector;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.IMultiTypeCapability;
@@ -69,6 +70,13 @@ import org.jetbrains.annotations.Nullable;
 
 public class TileComponentEjector implements ITileComponent, ISpecificContainerTracker {
 
+    /**
+     * Maximum number of ticks to wait before trying to eject a type again after an attempt that was unable to eject anything.
+     */
+    private static final int MAX_EJECT_BACKOFF = MekanismUtils.TICKS_PER_HALF_SECOND;
+    private static long ejectionAttempts;
+    private static long successfulEjections;
+
     private final TileEntityMekanism tile;
     private final Map<TransmissionType, ConfigInfo> configInfo = new EnumMap<>(TransmissionType.class);
 
@@ -88,6 +96,14 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    /**
+     * Number of ticks to wait before trying to eject each transmission type again, indexed by ordinal.
+     */
+    private final int[] ejectCooldown = new int[EnumUtils.TRANSMISSION_TYPES.length];
+    /**
+     * How long the cooldown for each transmission type will be if the next attempt is unable to eject anything, indexed by ordinal.
+     */
+    private final int[] ejectBackoff = new int[EnumUtils.TRANSMISSION_TYPES.length];
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -153,26 +169,70 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                         tickDelay--;
                     }
                 } else if (type != TransmissionType.HEAT) {
-                    eject(type, tile.facingSupplier.get(), info);
+                    int index = type.ordinal();
+                    if (ejectCooldown[index] > 0) {
+                        //The targets were unable to accept anything last time we tried, give them some time before we check them again
+                        ejectCooldown[index]--;
+                    } else if (eject(type, tile.facingSupplier.get(), info)) {
+                        ejectBackoff[index] = 0;
+                    } else {
+                        ejectBackoff[index] = Math.min(Math.max(1, 2 * ejectBackoff[index]), MAX_EJECT_BACKOFF);
+                        ejectCooldown[index] = ejectBackoff[index];
+                    }
                 }
             }
         }
     }
 
+    /**
+     * {@return true if any of the containers this ejector is ejecting from has contents that it may be able to eject}
+     */
+    public boolean hasEjectableContents() {
+        for (TransmissionType type : EnumUtils.TRANSMISSION_TYPES) {
+            ConfigInfo info = configInfo.get(type);
+            if (info != null && type != TransmissionType.HEAT && isEjecting(info, type)) {
+                for (DataType dataType : info.getSupportedDataTypes()) {
+                    if (dataType.canOutput()) {
+                        ISlotInfo slotInfo = info.getSlotInfo(dataType);
+                        if (slotInfo != null && !slotInfo.isEmpty()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Logs how many of the ejection attempts since the server started were able to eject something, and then resets the counts.
+     */
+    public static void logAndResetStatistics() {
+        if (ejectionAttempts > 0) {
+            Mekanism.logger.debug("Ejectors were able to eject something in {} of {} attempts.", successfulEjections, ejectionAttempts);
+        }
+        ejectionAttempts = 0;
+        successfulEjections = 0;
+    }
+
     private void addData(Map<Object, Set<Direction>> outputData, Object container, Set<Direction> outputSides) {
         Set<Direction> directions = outputData.get(container);
         if (directions == null) {
-            outputSides = EnumSet.copyOf(outputSides);
+            //Note: We don't need to copy the sides here, as we only ever modify sets that we created when merging
             outputData.put(container, outputSides);
-        } else {
+        } else if (!directions.containsAll(outputSides)) {
+            directions = EnumSet.copyOf(directions);
             directions.addAll(outputSides);
+            outputData.put(container, directions);
         }
     }
 
     /**
+     * @return {@code false} if there was something to eject but none of it could be ejected.
+     *
      * @apiNote Ensure that it can eject before calling this method.
      */
-    private void eject(TransmissionType type, Direction facing, ConfigInfo info) {
+    private boolean eject(TransmissionType type, Direction facing, ConfigInfo info) {
         //Used to keep track of tanks to what sides they output to
         Map<Object, Set<Direction>> outputData = null;//todo what is the point of putting it into a map??
         for (DataType dataType : info.getSupportedDataTypes()) {
@@ -214,38 +274,53 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            ServerLevel level = (ServerLevel) tile.getLevel();
-            BlockPos pos = tile.getBlockPos();
-            Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
-            for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                Set<Direction> sides = entry.getValue();
-                switch (type) {
-                    case CHEMICAL -> {
-                        IChemicalTank tank = (IChemicalTank) entry.getKey();
-                        List<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.CHEMICAL);
-                        ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
-                    }
-                    case FLUID -> {
-                        List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
-                        FluidUtils.emit(caches, (IExtendedFluidTank) entry.getKey(), fluidEjectRate.getAsInt());
-                    }
-                    case ENERGY -> {
-                        IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                        List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
-                        for (Direction side : sides) {
-                            BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
-                            if (cache == null) {
-                                cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite());
-                                energyCapabilityCache.put(side, cache);
-                            }
-                            caches.add(cache);
+        if (outputData == null || outputData.isEmpty()) {
+            //Nothing to eject
+            return true;
+        }
+        ejectionAttempts++;
+        boolean ejected = false;
+        ServerLevel level = (ServerLevel) tile.getLevel();
+        BlockPos pos = tile.getBlockPos();
+        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
+        for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+            Set<Direction> sides = entry.getValue();
+            switch (type) {
+                case CHEMICAL -> {
+                    IChemicalTank tank = (IChemicalTank) entry.getKey();
+                    List<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.CHEMICAL);
+                    long stored = tank.getStored();
+                    ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
+                    ejected |= tank.getStored() != stored;
+                }
+                case FLUID -> {
+                    IExtendedFluidTank tank = (IExtendedFluidTank) entry.getKey();
+                    List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
+                    int stored = tank.getFluidAmount();
+                    FluidUtils.emit(caches, tank, fluidEjectRate.getAsInt());
+                    ejected |= tank.getFluidAmount() != stored;
+                }
+                case ENERGY -> {
+                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
+                    List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
+                    for (Direction side : sides) {
+                        BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
+                        if (cache == null) {
+                            cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite());
+                            energyCapabilityCache.put(side, cache);
                         }
-                        CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.getAsLong());
+                        caches.add(cache);
                     }
+                    long stored = container.getEnergy();
+                    CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.getAsLong());
+                    ejected |= container.getEnergy() != stored;
                 }
             }
         }
+        if (ejected) {
+            successfulEjections++;
+        }
+        return ejected;
     }
 
     @SuppressWarnings("unchecked")
@@ -312,8 +387,10 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                             ejectMap.handler = handler;
                         }
                         //If the spot is not loaded just skip trying to eject to it
+                        ejectionAttempts++;
                         TransitResponse response = ejectMap.eject(tile, capability, 0, this.outputColorFunction);
                         if (!response.isEmpty()) {
+                            successfulEjections++;
                             // use the items returned by the TransitResponse; will be visible next loop
                             response.useAll();
                             if (ejectMap.isEmpty()) {
@@ -69,6 +69,13 @@ public class TileComponentUpgrade implements ITileComponent, ISpecificContainerT
         this.tile.addComponent(this);
     }
 
+    /**
+     * {@return true if there is no upgrade waiting to be installed}
+     */
+    public boolean isIdle() {
+        return !canCheckUpgrades;
+    }
+
     public void tickServer() {
         if (canCheckUpgrades) {
             ItemStack stack = upgradeSlot.getStack();
@@ -2,15 +2,14 @@ package mekanism.common.tile.factory;
 
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
-import java.util.function.ToIntBiFunction;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
 import mekanism.api.SerializationConstants;
@@ -40,6 +39,7 @@ import mekanism.common.inventory.container.sync.SyncableInt;
 import mekanism.common.inventory.container.sync.SyncableLong;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FactoryInputInventorySlot;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
 import mekanism.common.recipe.lookup.monitor.FactoryRecipeCacheLookupMonitor;
@@ -65,7 +65,6 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.ItemStackLinkedSet;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -99,6 +98,21 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     private int ticksRequired = BASE_TICKS_REQUIRED;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    /**
+     * The non-empty processes grouped by the type of item in their input slot. This is kept between sorts, and only the processes that have had their input change since
+     * the last sort get regrouped.
+     */
+    private final Map<HashedItem, RecipeProcessInfo> sortingGroups = new LinkedHashMap<>();
+    /**
+     * Recipes that have been found for each input type while sorting, so that we only have to look them up again after recipes get reloaded.
+     */
+    private final Map<HashedItem, RECIPE> sortingRecipes = new HashMap<>();
+    /**
+     * The key of the sorting group each process is in, or null if the process' input is empty.
+     */
+    private HashedItem[] sortingKeys;
+    private int[] sortingCounts;
+    private boolean[] sortingDirty;
     private long lastUsage = 0L;
 
     /**
@@ -167,10 +181,18 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
+        sortingKeys = new HashedItem[tier.processes];
+        sortingCounts = new int[tier.processes];
+        sortingDirty = new boolean[tier.processes];
+        Arrays.fill(sortingDirty, true);
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            int process = i;
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, () -> {
+                //Mark that the input of this process may have changed, so that it gets regrouped the next time we sort
+                sortingDirty[process] = true;
+                sortingNeeded = true;
+            });
         }
     }
 
@@ -220,6 +242,9 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         energySlot.fillContainerOrConvert();
 
         handleSecondaryFuel();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            sortingRecipes.clear();
+        }
         if (sortingNeeded && isSorting()) {
             //If sorting is needed, and we have sorting enabled mark
             // sorting as no longer needed and sort the inventory
@@ -389,6 +414,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                 progress[i] = savedProgress[i];
             }
         }
+        //The inventory may have been replaced without going through the listeners, so regroup everything when we next sort
+        markAllSortingDirty();
     }
 
     @Override
@@ -397,6 +424,11 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         nbtTags.putIntArray(SerializationConstants.PROGRESS, Arrays.copyOf(progress, progress.length));
     }
 
+    private void markAllSortingDirty() {
+        Arrays.fill(sortingDirty, true);
+        sortingNeeded = true;
+    }
+
     @Override
     public void writeSustainedData(HolderLookup.Provider provider, CompoundTag data) {
         super.writeSustainedData(provider, data);
@@ -478,6 +510,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
             for (ITileComponent component : getComponents()) {
                 component.read(data.components, provider);
             }
+            markAllSortingDirty();
         } else {
             super.parseUpgradeData(provider, upgradeData);
         }
@@ -518,87 +551,130 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     }
     //End methods IComputerTile
 
-    private void sortInventory() {
-        Map<ItemStack, RecipeProcessInfo<RECIPE>> processes = new Object2ObjectOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
-        List<ProcessInfo> emptyProcesses = new ArrayList<>();
-        for (ProcessInfo processInfo : processInfoSlots) {
-            IInventorySlot inputSlot = processInfo.inputSlot();
-            if (inputSlot.isEmpty()) {
-                emptyProcesses.add(processInfo);
+    private void updateSortingGroups() {
+        for (int process = 0; process < sortingDirty.length; process++) {
+            if (!sortingDirty[process]) {
+                continue;
+            }
+            sortingDirty[process] = false;
+            ProcessInfo processInfo = processInfoSlots[process];
+            ItemStack inputStack = processInfo.inputSlot().getStack();
+            HashedItem oldKey = sortingKeys[process];
+            if (oldKey != null) {
+                RecipeProcessInfo group = sortingGroups.get(oldKey);
+                if (!inputStack.isEmpty() && ItemStack.isSameItemSameComponents(oldKey.getInternalStack(), inputStack)) {
+                    //Still the same type of item, we just need to update how much of it there is
+                    group.totalCount += inputStack.getCount() - sortingCounts[process];
+                    sortingCounts[process] = inputStack.getCount();
+                    continue;
+                }
+                group.processes.remove(processInfo);
+                group.totalCount -= sortingCounts[process];
+                if (group.processes.isEmpty()) {
+                    sortingGroups.remove(oldKey);
+                }
+            }
+            if (inputStack.isEmpty()) {
+                sortingKeys[process] = null;
+                sortingCounts[process] = 0;
             } else {
-                ItemStack inputStack = inputSlot.getStack();
-                RecipeProcessInfo<RECIPE> recipeProcessInfo = processes.computeIfAbsent(inputStack, i -> new RecipeProcessInfo<>());
-                recipeProcessInfo.processes.add(processInfo);
-                recipeProcessInfo.totalCount += inputStack.getCount();
-                if (recipeProcessInfo.lazyMinPerSlot == null && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
-                    //If we don't have a lazily initialized min per slot calculation set for it yet
-                    // and our cache is not invalid/out of date due to a reload
-                    CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
-                    if (isCachedRecipeValid(cachedRecipe, inputStack)) {
-                        recipeProcessInfo.item = inputStack;
-                        recipeProcessInfo.recipe = cachedRecipe.getRecipe();
-                        // And our current process has a cached recipe then set the lazily initialized per slot value
-                        // Note: If something goes wrong, and we end up with zero as how much we need as an input
-                        // we just bump the value up to one to make sure we properly handle it
-                        recipeProcessInfo.lazyMinPerSlot = (info, factory) -> factory.getNeededInput(info.recipe, (ItemStack) info.item);
-                    }
+                HashedItem key = HashedItem.create(inputStack);
+                RecipeProcessInfo group = sortingGroups.computeIfAbsent(key, k -> new RecipeProcessInfo(k.getInternalStack()));
+                //Keep the processes ordered by their index so that the distribution is the same as if we had grouped them from scratch
+                int index = 0;
+                while (index < group.processes.size() && group.processes.get(index).process() < process) {
+                    index++;
                 }
+                group.processes.add(index, processInfo);
+                group.totalCount += inputStack.getCount();
+                sortingKeys[process] = key;
+                sortingCounts[process] = inputStack.getCount();
             }
         }
-        if (processes.isEmpty()) {
+    }
+
+    private void sortInventory() {
+        updateSortingGroups();
+        if (sortingGroups.isEmpty()) {
             //If all input slots are empty, just exit
             return;
         }
-        for (Entry<ItemStack, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
-            RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
-            if (recipeProcessInfo.lazyMinPerSlot == null) {
-                recipeProcessInfo.item = entry.getKey();
-                //If we don't have a lazy initializer for our minPerSlot setup, that means that there is
-                // no valid cached recipe for any of the slots of this type currently, so we want to try and
-                // get the recipe we will have for the first slot, once we end up with more items in the stack
-                recipeProcessInfo.lazyMinPerSlot = (info, factory) -> {
-                    //Note: We put all of this logic in the lazy init, so that we don't actually call any of this
-                    // until it is needed. That way if we have no empty slots and all our input slots are filled
-                    // we don't do any extra processing here, and can properly short circuit
-                    ItemStack item = (ItemStack) info.item;
-                    ItemStack largerInput = item.copyWithCount(Math.min(item.getMaxStackSize(), info.totalCount));
-                    ProcessInfo processInfo = info.processes.getFirst();
-                    //Try getting a recipe for our input with a larger size, and update the cache if we find one
-                    info.recipe = factory.getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
-                    if (info.recipe != null) {
-                        return factory.getNeededInput(info.recipe, largerInput);
-                    }
-                    return 1;
-                };
+        List<ProcessInfo> emptyProcesses = new ArrayList<>();
+        for (int process = 0; process < sortingKeys.length; process++) {
+            if (sortingKeys[process] == null) {
+                emptyProcesses.add(processInfoSlots[process]);
             }
         }
+        for (RecipeProcessInfo recipeProcessInfo : sortingGroups.values()) {
+            recipeProcessInfo.targets.clear();
+            recipeProcessInfo.targets.addAll(recipeProcessInfo.processes);
+            //Note: We lazily calculate the min per slot, so that if we have no empty slots and all our input slots are
+            // filled we don't do any extra processing here, and can properly short circuit
+            recipeProcessInfo.minPerSlot = 0;
+        }
         if (!emptyProcesses.isEmpty()) {
             //If we have any empty slots, we need to factor them in as valid slots for items to transferred to
-            addEmptySlotsAsTargets(processes, emptyProcesses);
+            addEmptySlotsAsTargets(emptyProcesses);
             //Note: Any remaining empty slots are "ignored" as we don't have any
             // spare items to distribute to them
         }
         //Distribute items among the slots
-        distributeItems(processes);
+        distributeItems();
     }
 
-    private void addEmptySlotsAsTargets(Map<ItemStack, RecipeProcessInfo<RECIPE>> processes, List<ProcessInfo> emptyProcesses) {
-        for (Entry<ItemStack, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
-            RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
-            int minPerSlot = recipeProcessInfo.getMinPerSlot(this);
+    private int getMinPerSlot(HashedItem key, RecipeProcessInfo info) {
+        if (info.minPerSlot == 0) {
+            //Note: If something goes wrong, and we end up with zero as how much we need as an input
+            // we just bump the value up to one to make sure we properly handle it
+            info.minPerSlot = Math.max(1, calculateMinPerSlot(key, info));
+        }
+        return info.minPerSlot;
+    }
+
+    private int calculateMinPerSlot(HashedItem key, RecipeProcessInfo info) {
+        if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //If our cache is not invalid/out of date due to a reload, see if any of the processes with this input have a valid cached recipe
+            for (ProcessInfo processInfo : info.processes) {
+                CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
+                ItemStack inputStack = processInfo.inputSlot().getStack();
+                if (isCachedRecipeValid(cachedRecipe, inputStack)) {
+                    return getNeededInput(cachedRecipe.getRecipe(), inputStack);
+                }
+            }
+        }
+        //Otherwise, there is no valid cached recipe for any of the slots of this type currently, so we want to try and
+        // get the recipe we will have for the first slot, once we end up with more items in the stack
+        ItemStack largerInput = info.item.copyWithCount(Math.min(info.item.getMaxStackSize(), info.totalCount));
+        RECIPE recipe = sortingRecipes.get(key);
+        if (recipe == null) {
+            ProcessInfo processInfo = info.processes.getFirst();
+            //Try getting a recipe for our input with a larger size, and update the cache if we find one
+            recipe = getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
+            if (recipe == null) {
+                return 1;
+            }
+            sortingRecipes.put(key, recipe);
+        }
+        return getNeededInput(recipe, largerInput);
+    }
+
+    private void addEmptySlotsAsTargets(List<ProcessInfo> emptyProcesses) {
+        for (Map.Entry<HashedItem, RecipeProcessInfo> entry : sortingGroups.entrySet()) {
+            RecipeProcessInfo recipeProcessInfo = entry.getValue();
+            int minPerSlot = getMinPerSlot(entry.getKey(), recipeProcessInfo);
             int maxSlots = recipeProcessInfo.totalCount / minPerSlot;
             if (maxSlots <= 1) {
                 //If we don't have enough to even fill the input for a slot for a single recipe; skip
                 continue;
             }
             //Otherwise, if we have at least enough items for two slots see how many we already have with items in them
-            int processCount = recipeProcessInfo.processes.size();
+            int processCount = recipeProcessInfo.targets.size();
             if (maxSlots <= processCount) {
                 //If we don't have enough extra to fill another slot skip
                 continue;
             }
             //Note: This is some arbitrary input stack one of the stacks contained
-            ItemStack sourceStack = entry.getKey();
+            ItemStack sourceStack = recipeProcessInfo.processes.getFirst().inputSlot().getStack();
             int emptyToAdd = maxSlots - processCount;
             int added = 0;
             List<ProcessInfo> toRemove = new ArrayList<>();
@@ -607,7 +683,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                     //If the input is valid for the stuff in the empty process' output slot
                     // then add our empty process to our recipeProcessInfo, and mark
                     // the empty process as accounted for
-                    recipeProcessInfo.processes.add(emptyProcess);
+                    recipeProcessInfo.targets.add(emptyProcess);
                     toRemove.add(emptyProcess);
                     added++;
                     if (added >= emptyToAdd) {
@@ -625,15 +701,17 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         }
     }
 
-    private void distributeItems(Map<ItemStack, RecipeProcessInfo<RECIPE>> processes) {
-        for (Entry<ItemStack, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
-            RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
-            int processCount = recipeProcessInfo.processes.size();
+    private void distributeItems() {
+        //Note: Changing the contents of the slots only marks the processes as dirty, so it is safe to iterate the groups directly
+        for (Map.Entry<HashedItem, RecipeProcessInfo> entry : sortingGroups.entrySet()) {
+            RecipeProcessInfo recipeProcessInfo = entry.getValue();
+            List<ProcessInfo> targets = recipeProcessInfo.targets;
+            int processCount = targets.size();
             if (processCount == 1) {
                 //If there is only one process with the item in it; short-circuit, no balancing is needed
                 continue;
             }
-            ItemStack item = entry.getKey();
+            ItemStack item = recipeProcessInfo.item;
             //Note: This isn't based on any limits the slot may have (but we currently don't have any reduced ones here, so it doesn't matter)
             int maxStackSize = item.getMaxStackSize();
             int numberPerSlot = recipeProcessInfo.totalCount / processCount;
@@ -642,7 +720,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                 continue;
             }
             int remainder = recipeProcessInfo.totalCount % processCount;
-            int minPerSlot = recipeProcessInfo.getMinPerSlot(this);
+            int minPerSlot = getMinPerSlot(entry.getKey(), recipeProcessInfo);
             if (minPerSlot > 1) {
                 int perSlotRemainder = numberPerSlot % minPerSlot;
                 if (perSlotRemainder > 0) {
@@ -674,7 +752,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                 }
             }
             for (int i = 0; i < processCount; i++) {
-                ProcessInfo processInfo = recipeProcessInfo.processes.get(i);
+                ProcessInfo processInfo = targets.get(i);
                 FactoryInputInventorySlot inputSlot = processInfo.inputSlot();
                 int sizeForSlot = numberPerSlot;
                 if (remainder > 0) {
@@ -727,23 +805,28 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                               @Nullable IInventorySlot secondaryOutputSlot) {
     }
 
-    private static class RecipeProcessInfo<RECIPE extends MekanismRecipe<?>> {
+    private static class RecipeProcessInfo {
 
+        /**
+         * A stack of size one of the input type.
+         */
+        private final ItemStack item;
+        /**
+         * Processes that currently have this type in their input slot, ordered by process index.
+         */
         private final List<ProcessInfo> processes = new ArrayList<>();
-        @Nullable
-        private ToIntBiFunction<RecipeProcessInfo<RECIPE>, TileEntityFactory<RECIPE>> lazyMinPerSlot;
-        private Object item;
-        private RECIPE recipe;
-        private int minPerSlot = 1;
+        /**
+         * Processes that this type will be distributed between in the current sort. This is the {@link #processes} plus any empty processes the type can move into.
+         */
+        private final List<ProcessInfo> targets = new ArrayList<>();
+        /**
+         * The minimum amount that should be put in each slot, or zero if it hasn't been calculated yet for the current sort.
+         */
+        private int minPerSlot;
         private int totalCount;
 
-        public int getMinPerSlot(TileEntityFactory<RECIPE> factory) {
-            if (lazyMinPerSlot != null) {
-                //Get the value lazily
-                minPerSlot = Math.max(1, lazyMinPerSlot.applyAsInt(this, factory));
-                lazyMinPerSlot = null;
-            }
-            return minPerSlot;
+        private RecipeProcessInfo(ItemStack item) {
+            this.item = item;
         }
     }
 
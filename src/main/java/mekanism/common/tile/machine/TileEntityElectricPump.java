@@ -1,11 +1,11 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -37,6 +37,7 @@ import mekanism.common.inventory.container.sync.SyncableFluidStack;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.collection.IndexedLongSet;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismFluids;
 import mekanism.common.tile.base.TileEntityMekanism;
@@ -49,6 +50,7 @@ import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -100,9 +102,17 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
     private boolean usedEnergy = false;
     private int outputRate = BASE_OUTPUT_RATE;
     /**
-     * The nodes that have full sources near them or in them
+     * The packed positions of the nodes that have full sources near them or in them
      */
-    private final Set<BlockPos> recurringNodes = new ObjectOpenHashSet<>();
+    private final IndexedLongSet recurringNodes = new IndexedLongSet();
+    /**
+     * Packed positions of sources that were seen next to a recurring node while looking for something to pump, grouped by chunk section. These are checked before
+     * scanning the recurring nodes again so that draining a large pool doesn't require rescanning the neighbors of nodes we already looked at.
+     *
+     * @implNote Not persisted as this is purely a cache, and each position gets validated again before it is pumped.
+     */
+    private final Long2ObjectMap<LongArrayList> knownSources = new Long2ObjectOpenHashMap<>();
+    private long lastSourceSection = Long.MAX_VALUE;
     private List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> fluidHandlerAbove = Collections.emptyList();
 
     private MachineEnergyContainer<TileEntityElectricPump> energyContainer;
@@ -192,30 +202,90 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         if (suck(worldPosition.relative(Direction.DOWN), hasFilter, true)) {
             return true;
         }
-        //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = new ArrayList<>(recurringNodes);
-        Collections.shuffle(tempPumpList);
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        for (BlockPos tempPumpPos : tempPumpList) {
-            if (suck(tempPumpPos, hasFilter, false)) {
+        //Next try any sources we already found while scanning around recurring nodes
+        if (suckKnownSource(mutable, hasFilter)) {
+            return true;
+        }
+        //Finally, go over the recurring list of nodes in a random order and see if there is a fluid block available to suck - if not, will iterate around the recurring
+        // block, attempt to suck, and then add the adjacent block to the recurring list
+        int maxPumpRange = MekanismConfig.general.maxPumpRange.get();
+        long maxRangeSqr = (long) maxPumpRange * maxPumpRange;
+        while (!recurringNodes.isEmpty()) {
+            //Note: As nodes that have nothing left around them are removed, sampling until we find something is the same as walking a shuffled copy of the nodes
+            long tempPumpPos = recurringNodes.sample(level.random);
+            if (suck(mutable.set(tempPumpPos), hasFilter, false)) {
                 return true;
             }
             //Add all the blocks surrounding this recurring node to the recurring node list
+            boolean sucked = false;
             for (Direction orientation : EnumUtils.DIRECTIONS) {
-                mutable.setWithOffset(tempPumpPos, orientation);
-                if (WorldUtils.distanceBetween(worldPosition, mutable) <= MekanismConfig.general.maxPumpRange.get()) {
-                    if (suck(mutable, hasFilter, true)) {
-                        return true;
+                long adjacent = WorldUtils.relativePos(tempPumpPos, orientation);
+                if (withinRange(adjacent, maxRangeSqr)) {
+                    mutable.set(adjacent);
+                    if (!sucked) {
+                        sucked = suck(mutable, hasFilter, true);
+                    } else if (isPumpableSource(mutable, hasFilter)) {
+                        //Remember any other sources we see so that we don't have to scan for them again
+                        knownSources.computeIfAbsent(SectionPos.blockToSection(adjacent), section -> new LongArrayList()).add(adjacent);
                     }
                 }
             }
+            if (sucked) {
+                return true;
+            }
             recurringNodes.remove(tempPumpPos);
         }
         return false;
     }
 
+    private boolean withinRange(long pos, long maxRangeSqr) {
+        long xDiff = BlockPos.getX(pos) - worldPosition.getX();
+        long yDiff = BlockPos.getY(pos) - worldPosition.getY();
+        long zDiff = BlockPos.getZ(pos) - worldPosition.getZ();
+        return xDiff * xDiff + yDiff * yDiff + zDiff * zDiff <= maxRangeSqr;
+    }
+
+    private boolean suckKnownSource(BlockPos.MutableBlockPos mutable, boolean hasFilter) {
+        while (!knownSources.isEmpty()) {
+            //Prefer to keep draining the section we last pumped from, so that we stay in the same chunk section as long as possible
+            LongArrayList sources = knownSources.get(lastSourceSection);
+            if (sources == null) {
+                Long2ObjectMap.Entry<LongArrayList> entry = knownSources.long2ObjectEntrySet().iterator().next();
+                lastSourceSection = entry.getLongKey();
+                sources = entry.getValue();
+            }
+            while (!sources.isEmpty()) {
+                long source = sources.removeLong(sources.size() - 1);
+                //Validate it is still a source, and pump it. As it is adjacent to a recurring node also add it as a recurring node
+                if (suck(mutable.set(source), hasFilter, true)) {
+                    if (sources.isEmpty()) {
+                        knownSources.remove(lastSourceSection);
+                    }
+                    return true;
+                }
+            }
+            knownSources.remove(lastSourceSection);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given position has a source that we would be able to pump, without actually pumping it.
+     */
+    private boolean isPumpableSource(BlockPos pos, boolean hasFilter) {
+        Optional<BlockState> state = WorldUtils.getBlockState(level, pos);
+        if (state.isPresent()) {
+            BlockState blockState = state.get();
+            FluidState fluidState = blockState.getFluidState();
+            if (!fluidState.isEmpty() && fluidState.isSource() && blockState.getBlock() instanceof BucketPickup) {
+                FluidStack fluidStack = getOutput(fluidState.getType(), hasFilter);
+                return activeType.isEmpty() || FluidStack.isSameFluidSameComponents(activeType, fluidStack);
+            }
+        }
+        return false;
+    }
+
     private boolean suck(BlockPos pos, boolean hasFilter, boolean addRecurring) {
         //Note: we get the block state from the world so that we can get the proper block in case it is fluid logged
         Optional<BlockState> state = WorldUtils.getBlockState(level, pos);
@@ -285,8 +355,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         //Size doesn't matter, but we do want to take the NBT into account
         activeType = fluidStack.copyWithAmount(1);
         if (addRecurring) {
-            pos = pos.immutable();
-            recurringNodes.add(pos);
+            recurringNodes.add(pos.asLong());
         }
         int amountOffered = fluidStack.getAmount();
         if (fluidTank.insert(fluidStack, Action.EXECUTE, AutomationType.INTERNAL).getAmount() != amountOffered) {
@@ -308,6 +377,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
     public void reset() {
         activeType = FluidStack.EMPTY;
         recurringNodes.clear();
+        knownSources.clear();
     }
 
     @Override
@@ -318,7 +388,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
             nbtTags.put(SerializationConstants.FLUID, activeType.save(provider));
         }
         if (!recurringNodes.isEmpty()) {
-            nbtTags.put(SerializationConstants.RECURRING_NODES, NBTUtils.writeBlockPositions(recurringNodes));
+            nbtTags.put(SerializationConstants.RECURRING_NODES, NBTUtils.writePackedBlockPositions(recurringNodes.elements()));
         }
     }
 
@@ -327,7 +397,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         super.loadAdditional(nbt, provider);
         operatingTicks = nbt.getInt(SerializationConstants.PROGRESS);
         NBTUtils.setFluidStackIfPresent(provider, nbt, SerializationConstants.FLUID, fluid -> activeType = fluid);
-        NBTUtils.readBlockPositions(nbt, SerializationConstants.RECURRING_NODES, recurringNodes);
+        NBTUtils.readPackedBlockPositions(nbt, SerializationConstants.RECURRING_NODES, recurringNodes::add);
     }
 
     @Override
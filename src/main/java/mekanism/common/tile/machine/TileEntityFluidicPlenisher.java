@@ -1,10 +1,10 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IConfigurable;
@@ -65,8 +65,14 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     public static final int BASE_TICKS_REQUIRED = SharedConstants.TICKS_PER_SECOND;
     public static final int MAX_FLUID = 10 * FluidType.BUCKET_VOLUME;
 
-    private final Set<BlockPos> activeNodes = new ObjectLinkedOpenHashSet<>();
-    private final Set<BlockPos> usedNodes = new ObjectOpenHashSet<>();
+    /**
+     * Packed positions that are queued to be filled, in the order they will be filled in.
+     */
+    private final LongLinkedOpenHashSet activeNodes = new LongLinkedOpenHashSet();
+    /**
+     * Packed positions that have already been filled or skipped.
+     */
+    private final LongSet usedNodes = new LongOpenHashSet();
     public boolean finishedCalc;
     public int ticksRequired = BASE_TICKS_REQUIRED;
     /**
@@ -170,38 +176,43 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                     finishedCalc = true;
                     return;
                 }
-                activeNodes.add(mutable.immutable());
+                activeNodes.add(mutable.asLong());
             } else {
                 finishedCalc = true;
                 return;
             }
         }
-        Set<BlockPos> toRemove = new ObjectOpenHashSet<>();
-        for (BlockPos nodePos : activeNodes) {
+        BlockPos.MutableBlockPos nodePos = new BlockPos.MutableBlockPos();
+        while (!activeNodes.isEmpty()) {
+            long node = activeNodes.removeFirstLong();
+            nodePos.set(node);
             if (WorldUtils.isBlockLoaded(level, nodePos)) {
                 if (canReplace(nodePos, true, false) && canExtractBucket() &&
                     WorldUtils.tryPlaceContainedLiquid(null, level, nodePos, fluidTank.getFluid(), null)) {
                     level.gameEvent(null, GameEvent.FLUID_PLACE, nodePos);
                     fluidTank.extract(FluidType.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
                 }
+                //Note: The node has to be marked as used after we try to fill it, as canReplace skips used nodes
+                usedNodes.add(node);
                 for (Direction dir : dirs) {
-                    mutable.setWithOffset(nodePos, dir);
-                    if (WorldUtils.isBlockLoaded(level, mutable) && canReplace(mutable, true, true)) {
-                        activeNodes.add(mutable.immutable());
+                    long adjacent = WorldUtils.relativePos(node, dir);
+                    //Skip checking the block if it is already queued
+                    if (!activeNodes.contains(adjacent)) {
+                        mutable.set(adjacent);
+                        if (WorldUtils.isBlockLoaded(level, mutable) && canReplace(mutable, true, true)) {
+                            activeNodes.add(adjacent);
+                        }
                     }
                 }
-                toRemove.add(nodePos);
                 break;
-            } else {
-                toRemove.add(nodePos);
             }
+            //Move unloaded nodes to the used nodes as well, so that we don't try to fill them again
+            usedNodes.add(node);
         }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
     }
 
     private boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(pos)) {
+        if (checkNodes && usedNodes.contains(pos.asLong())) {
             return false;
         }
         BlockState state = level.getBlockState(pos);
@@ -238,10 +249,10 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         nbtTags.putInt(SerializationConstants.PROGRESS, operatingTicks);
         nbtTags.putBoolean(SerializationConstants.FINISHED, finishedCalc);
         if (!activeNodes.isEmpty()) {
-            nbtTags.put(SerializationConstants.ACTIVE_NODES, NBTUtils.writeBlockPositions(activeNodes));
+            nbtTags.put(SerializationConstants.ACTIVE_NODES, NBTUtils.writePackedBlockPositions(activeNodes));
         }
         if (!usedNodes.isEmpty()) {
-            nbtTags.put(SerializationConstants.USED_NODES, NBTUtils.writeBlockPositions(usedNodes));
+            nbtTags.put(SerializationConstants.USED_NODES, NBTUtils.writePackedBlockPositions(usedNodes));
         }
     }
 
@@ -250,8 +261,8 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super.loadAdditional(nbt, provider);
         operatingTicks = nbt.getInt(SerializationConstants.PROGRESS);
         finishedCalc = nbt.getBoolean(SerializationConstants.FINISHED);
-        NBTUtils.readBlockPositions(nbt, SerializationConstants.ACTIVE_NODES, activeNodes);
-        NBTUtils.readBlockPositions(nbt, SerializationConstants.USED_NODES, usedNodes);
+        NBTUtils.readPackedBlockPositions(nbt, SerializationConstants.ACTIVE_NODES, activeNodes::add);
+        NBTUtils.readPackedBlockPositions(nbt, SerializationConstants.USED_NODES, usedNodes::add);
     }
 
     @Override
@@ -25,6 +25,8 @@ import mekanism.common.capabilities.holder.energy.EnergyContainerHelper;
 import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
+import mekanism.common.content.assemblicator.CraftingResultCache;
+import mekanism.common.content.assemblicator.CraftingResultCache.CraftingResult;
 import mekanism.common.content.assemblicator.RecipeFormula;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerIInventorySlotWrapper;
@@ -44,7 +46,6 @@ import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.item.ItemCraftingFormula;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.transmitter.TransmissionType;
-import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.tile.component.TileComponentEjector;
@@ -66,7 +67,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingInput;
 import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.RecipeHolder;
-import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -305,36 +305,29 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
             NonNullList<ItemStack> previousRemaining = lastRemainingItems;
             if (hasValidFormula()) {
                 RecipeHolder<CraftingRecipe> recipe = formula.recipe();
-                if (recipe == null) {
-                    isRecipe = false;
-                    lastOutputStack = ItemStack.EMPTY;
-                } else {
+                CraftingResult result = null;
+                if (recipe != null) {
                     //Should always be a 3x3 grid for the size
                     CraftingInput input = MekanismUtils.getCraftingInputSlots(3, 3, craftingGridSlots, true).input();
-                    isRecipe = recipe.value().matches(input, level);
-                    if (isRecipe) {
-                        lastOutputStack = recipe.value().assemble(input, level.registryAccess());
-                        lastRemainingItems = recipe.value().getRemainingItems(input);
-                    } else {
-                        //TODO: Do we need to clear the last remaining items?
-                        lastOutputStack = ItemStack.EMPTY;
-                    }
+                    result = CraftingResultCache.getResultWith(level, input, recipe);
+                }
+                isRecipe = result != null;
+                if (isRecipe) {
+                    lastOutputStack = result.output();
+                    lastRemainingItems = result.remainingItems();
+                } else {
+                    //TODO: Do we need to clear the last remaining items?
+                    lastOutputStack = ItemStack.EMPTY;
                 }
             } else {
                 //Should always be 9 for the size
                 CraftingInput craftingInput = MekanismUtils.getCraftingInputSlots(3, 3, craftingGridSlots, true).input();
-                lastRemainingItems = EMPTY_LIST;
-                if (cachedRecipe == null || !cachedRecipe.value().matches(craftingInput, level)) {
-                    cachedRecipe = MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, craftingInput, level).orElse(null);
-                }
-                if (cachedRecipe == null) {
-                    lastOutputStack = ItemStack.EMPTY;
-                } else {
-                    lastOutputStack = cachedRecipe.value().assemble(craftingInput, level.registryAccess());
-                    //Note: Because we don't currently do any replacement of remaining items, we don't need to keep track of where the recipe
-                    // was positioned for purposes of replacing things with the remaining items
-                    lastRemainingItems = cachedRecipe.value().getRemainingItems(craftingInput);
-                }
+                CraftingResult result = CraftingResultCache.getResult(level, craftingInput, cachedRecipe);
+                cachedRecipe = result.recipe();
+                lastOutputStack = result.output();
+                //Note: Because we don't currently do any replacement of remaining items, we don't need to keep track of where the recipe
+                // was positioned for purposes of replacing things with the remaining items
+                lastRemainingItems = result.remainingItems();
                 isRecipe = !lastOutputStack.isEmpty();
             }
             boolean recipeChanged = false;
@@ -135,7 +135,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener, IContentsListener recipeCacheListener, IContentsListener recipeCacheUnpauseListener) {
         EnergyContainerHelper builder = EnergyContainerHelper.forSideWithConfig(this);
-        builder.addContainer(energyContainer = MachineEnergyContainer.input(this, recipeCacheUnpauseListener));
+        builder.addContainer(energyContainer = MachineEnergyContainer.input(this, getRecipeCacheEnergyListener(listener)));
         return builder.build();
     }
 
@@ -157,10 +157,22 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
         boolean sendUpdatePacket = super.onUpdateServer();
         energySlot.fillContainerOrConvert();
         secondarySlot.fillTankOrConvert();
-        recipeCacheLookupMonitor.updateAndProcess();
+        processRecipe(energyContainer);
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean canBecomeDormant() {
+        return isRecipeProcessingBlocked();
+    }
+
+    @Override
+    protected boolean canDeferTicks(int ticks) {
+        //Note: Recipes that use chemicals every tick may run out part way through the deferred ticks, and we would only be able to tell after more was received
+        CachedRecipe<ItemStackChemicalToItemStackRecipe> cachedRecipe = recipeCacheLookupMonitor.getCachedRecipe(0);
+        return cachedRecipe != null && !cachedRecipe.getRecipe().perTickUsage();
+    }
+
     protected boolean allowExtractingChemical() {
         return !useStatisticalMechanics();
     }
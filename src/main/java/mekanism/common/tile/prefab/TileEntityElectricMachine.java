@@ -75,7 +75,7 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener, IContentsListener recipeCacheListener, IContentsListener recipeCacheUnpauseListener) {
         EnergyContainerHelper builder = EnergyContainerHelper.forSideWithConfig(this);
-        builder.addContainer(energyContainer = MachineEnergyContainer.input(this, recipeCacheUnpauseListener));
+        builder.addContainer(energyContainer = MachineEnergyContainer.input(this, getRecipeCacheEnergyListener(listener)));
         return builder.build();
     }
 
@@ -95,10 +95,15 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
     protected boolean onUpdateServer() {
         boolean sendUpdatePacket = super.onUpdateServer();
         energySlot.fillContainerOrConvert();
-        recipeCacheLookupMonitor.updateAndProcess();
+        processRecipe(energyContainer);
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean canBecomeDormant() {
+        return isRecipeProcessingBlocked();
+    }
+
     @Nullable
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
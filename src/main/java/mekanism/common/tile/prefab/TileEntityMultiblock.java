@@ -132,6 +132,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                 }
                 if (isMaster()) {
                     if (multiblock.tick(level)) {
+                        multiblock.clearCachedUpdateTag();
                         needsPacket = true;
                     }
                     getManager().handleDirtyMultiblock(multiblock);
@@ -172,6 +173,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
 
     protected void structureChanged(T multiblock) {
         invalidateCapabilitiesFull();
+        multiblock.clearCachedUpdateTag();
         if (multiblock.isFormed() && !multiblock.hasMaster && canBeMaster()) {
             multiblock.hasMaster = true;
             isMaster = true;
@@ -262,7 +264,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         T multiblock = getMultiblock();
         updateTag.putBoolean(SerializationConstants.HAS_STRUCTURE, multiblock.isFormed());
         if (multiblock.isFormed() && isMaster()) {
-            multiblock.writeUpdateTag(updateTag, provider);
+            multiblock.writeCachedUpdateTag(updateTag, provider);
         }
         return updateTag;
     }
@@ -6,9 +6,13 @@ import mekanism.api.Upgrade;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import mekanism.common.capabilities.energy.MachineEnergyContainer;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableInt;
+import mekanism.common.recipe.lookup.monitor.RecipeCacheLookupMonitor;
+import mekanism.common.tile.interfaces.IRedstoneControl.RedstoneControl;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UpgradeUtils;
 import net.minecraft.core.BlockPos;
@@ -23,6 +27,8 @@ public abstract class TileEntityProgressMachine<RECIPE extends MekanismRecipe<?>
     private int operatingTicks;
     protected int baseTicksRequired;
     public int ticksRequired;
+    private int deferredTicks;
+    private boolean lastProcessingMadeProgress;
 
     protected TileEntityProgressMachine(IBlockProvider blockProvider, BlockPos pos, BlockState state, List<RecipeError> errorTypes, int baseTicksRequired) {
         super(blockProvider, pos, state, errorTypes);
@@ -48,6 +54,62 @@ public abstract class TileEntityProgressMachine<RECIPE extends MekanismRecipe<?>
         return ticksRequired;
     }
 
+    /**
+     * Processes the recipe, deferring ticks so that several can be processed at once if the server is configured to allow it. This method is expected to be called once
+     * per tick in place of {@link RecipeCacheLookupMonitor#updateAndProcess()}.
+     *
+     * @param energyContainer Energy container the recipe uses energy from.
+     *
+     * @implNote A tick is only deferred when the last tick that was processed made progress without finishing the operation, the recipe isn't blocked, and the energy
+     * for every deferred tick is already stored. The tick that finishes the operation is never deferred, and any change to the contents or upgrades of the machine
+     * processes the deferred ticks straight away. This means that until the deferred ticks are processed, nothing but processing changes the machine, so every deferred
+     * tick is one that would have made progress. As contents change listeners are only notified after the fact, contents being removed may still cause deferred ticks to
+     * make less progress than they would have.
+     */
+    protected void processRecipe(MachineEnergyContainer<?> energyContainer) {
+        if (canDeferTick(energyContainer)) {
+            deferredTicks++;
+        } else {
+            processTicks(deferredTicks + 1);
+        }
+    }
+
+    private boolean canDeferTick(MachineEnergyContainer<?> energyContainer) {
+        int ticks = deferredTicks + 1;
+        if (!lastProcessingMadeProgress || ticks >= MekanismConfig.general.machineProcessingInterval.get() || getOperatingTicks() + ticks >= ticksRequired) {
+            return false;
+        } else if (!playersUsing.isEmpty()) {
+            //Process every tick while players are viewing the machine so that the progress they see is smooth
+            return false;
+        } else if (supportsRedstone() && getControlType() != RedstoneControl.DISABLED) {
+            //Note: We don't defer ticks for machines that are controlled by redstone, as we don't find out about the redstone changing until after it has
+            return false;
+        }
+        return !recipeCacheLookupMonitor.isBlocked() && energyContainer.getEnergy() >= ticks * energyContainer.getEnergyPerTick() && canDeferTicks(ticks);
+    }
+
+    /**
+     * Allows machines to prevent ticks from being deferred, for example if they use resources every tick that they can't be sure they have enough of.
+     *
+     * @param ticks Number of ticks that would have been deferred, including the current tick.
+     */
+    protected boolean canDeferTicks(int ticks) {
+        return true;
+    }
+
+    private void processTicks(int ticks) {
+        //Note: Clear the deferred ticks before processing, so that if processing changes our contents we don't try to process them again
+        deferredTicks = 0;
+        lastProcessingMadeProgress = recipeCacheLookupMonitor.updateAndProcess(ticks) == ticks && getOperatingTicks() > 0;
+    }
+
+    @Override
+    public void processDeferredTicks(int cacheIndex) {
+        if (deferredTicks > 0) {
+            processTicks(deferredTicks);
+        }
+    }
+
     @Override
     public int getSavedOperatingTicks(int cacheIndex) {
         return getOperatingTicks();
@@ -67,6 +129,8 @@ public abstract class TileEntityProgressMachine<RECIPE extends MekanismRecipe<?>
 
     @Override
     public void recalculateUpgrades(Upgrade upgrade) {
+        //Process any deferred ticks with the upgrades they were deferred with
+        processDeferredTicks(0);
         super.recalculateUpgrades(upgrade);
         if (upgrade == Upgrade.SPEED) {
             ticksRequired = MekanismUtils.getTicks(this, baseTicksRequired);
@@ -97,6 +97,32 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe<?>>
         return recipeCacheUnpauseSaveOnlyListener;
     }
 
+    /**
+     * Gets a listener for energy containers that unpauses the recipe without processing any ticks that were deferred, as ticks are only deferred when the energy for
+     * them is already stored, so receiving more energy can't change whether they would have been processed.
+     */
+    protected IContentsListener getRecipeCacheEnergyListener(IContentsListener listener) {
+        if (listener == this) {
+            return () -> {
+                onContentsChanged();
+                recipeCacheLookupMonitor.unpauseForEnergy();
+            };
+        }
+        return () -> {
+            markForSave();
+            recipeCacheLookupMonitor.unpauseForEnergy();
+        };
+    }
+
+    /**
+     * Helper for implementing {@link #canBecomeDormant()} for machines whose only per tick logic is processing their recipe, filling from their slots, and ejecting.
+     *
+     * @return {@code true} if the recipe can't be processed until our contents change, and there is nothing to eject.
+     */
+    protected boolean isRecipeProcessingBlocked() {
+        return hasNoPendingBaseWork() && recipeCacheLookupMonitor.isBlocked() && !ejectorComponent.hasEjectableContents();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
@@ -3,6 +3,8 @@ package mekanism.common.util;
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
 import it.unimi.dsi.fastutil.bytes.ByteConsumer;
 import it.unimi.dsi.fastutil.floats.FloatConsumer;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.shorts.ShortConsumer;
 import java.util.Collection;
 import java.util.Optional;
@@ -58,6 +60,35 @@ public class NBTUtils {
         }
     }
 
+    /**
+     * Writes packed block positions in the same format as {@link #writeBlockPositions(Collection)}.
+     */
+    public static IntArrayTag writePackedBlockPositions(LongCollection positions) {
+        int[] list = new int[3 * positions.size()];
+        int i = 0;
+        for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            list[i++] = BlockPos.getX(pos);
+            list[i++] = BlockPos.getY(pos);
+            list[i++] = BlockPos.getZ(pos);
+        }
+        return new IntArrayTag(list);
+    }
+
+    /**
+     * Reads block positions written by either {@link #writeBlockPositions(Collection)} or {@link #writePackedBlockPositions(LongCollection)} as packed positions.
+     */
+    public static void readPackedBlockPositions(CompoundTag nbt, String key, LongConsumer positions) {
+        if (nbt.contains(key, Tag.TAG_INT_ARRAY)) {
+            int[] list = nbt.getIntArray(key);
+            if (list.length % 3 == 0) {
+                for (int i = 0; i < list.length; ) {
+                    positions.accept(BlockPos.asLong(list[i++], list[i++], list[i++]));
+                }
+            }
+        }
+    }
+
     public static void setByteIfPresent(CompoundTag nbt, String key, ByteConsumer setter) {
         if (nbt.contains(key, Tag.TAG_BYTE)) {
             setter.accept(nbt.getByte(key));
@@ -0,0 +1,149 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Random;
+import net.minecraft.util.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test IndexedLongSet implementation")
+class IndexedLongSetTest {
+
+    private static IndexedLongSet setOf(long... values) {
+        IndexedLongSet set = new IndexedLongSet();
+        for (long value : values) {
+            Assertions.assertTrue(set.add(value));
+        }
+        return set;
+    }
+
+    @Test
+    @DisplayName("Test adding keeps insertion order and ignores duplicates")
+    void testAdd() {
+        IndexedLongSet set = setOf(5, -3, 12, Long.MAX_VALUE);
+        Assertions.assertFalse(set.add(12));
+        Assertions.assertFalse(set.add(5));
+        Assertions.assertEquals(4, set.size());
+        Assertions.assertEquals(LongList.of(5, -3, 12, Long.MAX_VALUE), set.elements());
+        Assertions.assertTrue(set.contains(-3));
+        Assertions.assertFalse(set.contains(3));
+    }
+
+    @Test
+    @DisplayName("Test -1 can be stored even though it is used as the missing index")
+    void testNegativeOne() {
+        IndexedLongSet set = setOf(-1);
+        Assertions.assertTrue(set.contains(-1));
+        Assertions.assertFalse(set.add(-1));
+        Assertions.assertTrue(set.remove(-1));
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing the last element keeps the order of the rest")
+    void testRemoveLast() {
+        IndexedLongSet set = setOf(1, 2, 3);
+        Assertions.assertTrue(set.remove(3));
+        Assertions.assertEquals(LongList.of(1, 2), set.elements());
+        Assertions.assertFalse(set.contains(3));
+    }
+
+    @Test
+    @DisplayName("Test removing an element swaps the last element into its place")
+    void testSwapRemove() {
+        IndexedLongSet set = setOf(1, 2, 3, 4);
+        Assertions.assertTrue(set.remove(2));
+        Assertions.assertEquals(LongList.of(1, 4, 3), set.elements());
+        //The moved element's index has to have been updated for removing it to leave the correct elements behind
+        Assertions.assertTrue(set.remove(4));
+        Assertions.assertEquals(LongList.of(1, 3), set.elements());
+        Assertions.assertTrue(set.remove(1));
+        Assertions.assertEquals(LongList.of(3), set.elements());
+        Assertions.assertTrue(set.remove(3));
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing elements that are not present")
+    void testRemoveMissing() {
+        IndexedLongSet set = setOf(1, 2);
+        Assertions.assertFalse(set.remove(3));
+        Assertions.assertTrue(set.remove(1));
+        Assertions.assertFalse(set.remove(1));
+        Assertions.assertEquals(LongList.of(2), set.elements());
+    }
+
+    @Test
+    @DisplayName("Test elements can be added again after being removed")
+    void testReAdd() {
+        IndexedLongSet set = setOf(1, 2, 3);
+        Assertions.assertTrue(set.remove(1));
+        Assertions.assertTrue(set.add(1));
+        Assertions.assertEquals(LongList.of(3, 2, 1), set.elements());
+        Assertions.assertTrue(set.remove(2));
+        Assertions.assertEquals(LongList.of(3, 1), set.elements());
+    }
+
+    @Test
+    @DisplayName("Test clearing the set")
+    void testClear() {
+        IndexedLongSet set = setOf(1, 2, 3);
+        set.clear();
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertFalse(set.contains(2));
+        Assertions.assertTrue(set.add(2));
+        Assertions.assertEquals(LongList.of(2), set.elements());
+    }
+
+    @Test
+    @DisplayName("Test the elements view can't be modified")
+    void testElementsUnmodifiable() {
+        IndexedLongSet set = setOf(1, 2);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> set.elements().add(3));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> set.elements().removeLong(0));
+    }
+
+    @Test
+    @DisplayName("Test sampling only returns elements of the set, and returns all of them")
+    void testSample() {
+        IndexedLongSet set = setOf(10, 20, 30, 40);
+        set.remove(20);
+        RandomSource random = RandomSource.create(0);
+        LongSet sampled = new LongOpenHashSet();
+        for (int i = 0; i < 1_000; i++) {
+            long value = set.sample(random);
+            Assertions.assertTrue(set.contains(value));
+            sampled.add(value);
+        }
+        Assertions.assertEquals(LongOpenHashSet.of(10, 30, 40), sampled);
+    }
+
+    @Test
+    @DisplayName("Test random adds and removes against a reference set")
+    void testMatchesReference() {
+        Random random = new Random(42);
+        IndexedLongSet set = new IndexedLongSet();
+        LongSet reference = new LongOpenHashSet();
+        for (int i = 0; i < 10_000; i++) {
+            //Use a small range of values so that adds and removes frequently hit existing elements
+            long value = random.nextInt(64);
+            if (random.nextBoolean()) {
+                Assertions.assertEquals(reference.add(value), set.add(value));
+            } else {
+                Assertions.assertEquals(reference.remove(value), set.remove(value));
+            }
+            Assertions.assertEquals(reference.size(), set.size());
+        }
+        LongList elements = new LongArrayList(set.elements());
+        Assertions.assertEquals(reference, new LongOpenHashSet(elements));
+        //Every element must still be removable, which requires the index of each one to be correct
+        for (int i = 0; i < elements.size(); i++) {
+            Assertions.assertTrue(set.remove(elements.getLong(i)));
+        }
+        Assertions.assertTrue(set.isEmpty());
+    }
+}